@@ -0,0 +1,91 @@
+#!/usr/bin/env bash
+#
+# 시작 시간 비교 (time-to-ready)
+#
+#   mvn -Pstartup -DskipTests package      # AOT + CDS 산출물 생성
+#   scripts/startup-benchmark.sh [반복 횟수]
+#
+# 모드별로 애플리케이션을 반복 실행해서 "Started BoardApplication" 로그가 찍힐 때까지의
+# 시간(JVM 시작 포함, Spring 이 보고하는 process running 값)을 모아 중앙값/최소/최대를 출력한다.
+#   default     : ddl-auto=update (기본 설정)
+#   prod        : ddl-auto=validate
+#   prod-aot    : validate + Spring AOT
+#   prod-aot-cds: validate + Spring AOT + AppCDS 아카이브
+# MySQL 이 application.properties 의 설정대로 떠 있어야 한다.
+# 추가 JVM 옵션은 JAVA_OPTS, 추가 애플리케이션 인자는 APP_ARGS 로 넘긴다.
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-120}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+TARGET="$ROOT/target"
+JAR="$(ls "$TARGET"/board-*.jar 2>/dev/null | grep -v '\.original$' | head -n 1 || true)"
+CDS_DIR="$TARGET/cds"
+CDS_JAR="$CDS_DIR/$(basename "${JAR:-board.jar}")"
+CDS_ARCHIVE="$CDS_DIR/application.jsa"
+LOG="$(mktemp)"
+trap 'rm -f "$LOG"' EXIT
+
+if [[ -z "$JAR" ]]; then
+    echo "target/board-*.jar 가 없습니다. 먼저 mvn -Pstartup -DskipTests package 를 실행하세요." >&2
+    exit 1
+fi
+
+# 한 번 실행해서 process running 시간(초)을 출력
+run_once() {
+    local pid seconds=""
+    "$@" > "$LOG" 2>&1 &
+    pid=$!
+    for ((i = 0; i < TIMEOUT_SECONDS * 10; i++)); do
+        if line="$(grep -m 1 'Started BoardApplication' "$LOG")"; then
+            seconds="$(sed -E 's/.*process running for ([0-9.]+).*/\1/' <<< "$line")"
+            break
+        fi
+        if ! kill -0 "$pid" 2>/dev/null; then
+            break
+        fi
+        sleep 0.1
+    done
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+    if [[ -z "$seconds" ]]; then
+        echo "시작 실패 또는 시간 초과: $*" >&2
+        tail -n 20 "$LOG" >&2
+        return 1
+    fi
+    echo "$seconds"
+}
+
+bench() {
+    local mode="$1"
+    shift
+    local results=()
+    run_once "$@" > /dev/null   # 파일 캐시 등 워밍업 (결과 제외)
+    for ((r = 0; r < RUNS; r++)); do
+        results+=("$(run_once "$@")")
+    done
+    printf '%s\n' "${results[@]}" | sort -n | awk -v mode="$mode" '
+        { v[NR] = $1 }
+        END {
+            median = (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2
+            printf "%-14s median %6.2fs   min %6.2fs   max %6.2fs   (n=%d)\n", mode, median, v[1], v[NR], NR
+        }'
+}
+
+# shellcheck disable=SC2206
+JAVA_OPTS_ARRAY=(${JAVA_OPTS:-})
+# shellcheck disable=SC2206
+APP_ARGS_ARRAY=(${APP_ARGS:-})
+
+echo "jar: $JAR, runs per mode: $RUNS"
+bench default java "${JAVA_OPTS_ARRAY[@]}" -jar "$JAR" "${APP_ARGS_ARRAY[@]}"
+bench prod java "${JAVA_OPTS_ARRAY[@]}" -jar "$JAR" --spring.profiles.active=prod "${APP_ARGS_ARRAY[@]}"
+bench prod-aot java "${JAVA_OPTS_ARRAY[@]}" -Dspring.aot.enabled=true -jar "$JAR" \
+    --spring.profiles.active=prod "${APP_ARGS_ARRAY[@]}"
+if [[ -f "$CDS_ARCHIVE" && -f "$CDS_JAR" ]]; then
+    bench prod-aot-cds java "${JAVA_OPTS_ARRAY[@]}" -XX:SharedArchiveFile="$CDS_ARCHIVE" -Dspring.aot.enabled=true \
+        -jar "$CDS_JAR" --spring.profiles.active=prod "${APP_ARGS_ARRAY[@]}"
+else
+    echo "prod-aot-cds   건너뜀 ($CDS_ARCHIVE 없음, mvn -Pstartup package 필요)"
+fi
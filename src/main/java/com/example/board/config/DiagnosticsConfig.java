@@ -0,0 +1,45 @@
+package com.example.board.config;
+
+import com.example.board.diagnostics.RequestTraceFilter;
+import com.example.board.diagnostics.RequestTraceStore;
+import com.example.board.diagnostics.TracingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청별 성능 기록 (diagnostics.requests.enabled=false 이면 끔)
+ * - /api/** 요청 전체(보안 필터 포함)를 감싸는 필터
+ * - SQL 실행 시간을 재는 DataSource 래퍼
+ */
+@Configuration
+@ConditionalOnProperty(name = "diagnostics.requests.enabled", havingValue = "true", matchIfMissing = true)
+public class DiagnosticsConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestTraceFilter> requestTraceFilter(RequestTraceStore requestTraceStore) {
+        FilterRegistrationBean<RequestTraceFilter> registration =
+                new FilterRegistrationBean<>(new RequestTraceFilter(requestTraceStore));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public static BeanPostProcessor tracingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof TracingDataSource)) {
+                    return new TracingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,13 +1,16 @@
 // src/main/java/com/example/board/config/FileStorageConfig.java
 package com.example.board.config;
 
+import com.example.board.storage.LocalDirectoryStorageBackend;
+import com.example.board.storage.PackFileStorageBackend;
+import com.example.board.storage.StorageBackend;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.FileSystemResource;
 
 import java.io.File;
-import java.io.IOException;
+import java.nio.file.Path;
 
 @Configuration
 public class FileStorageConfig {
@@ -32,4 +35,24 @@ public class FileStorageConfig {
             throw new RuntimeException("Could not create upload directory!", e);
         }
     }
+
+    /**
+     * 파일 저장소 선택 (file.storage.backend=local|pack)
+     * pack: 작은 파일은 packs/ 세그먼트에 모아서 저장하고, 큰 파일은 기존처럼 디렉토리에 저장
+     */
+    @Bean
+    public StorageBackend storageBackend(FileSystemResource fileSystemResource,
+                                         @Value("${file.storage.backend:local}") String backend,
+                                         @Value("${file.storage.pack.max-blob-size:262144}") long maxBlobSize,
+                                         @Value("${file.storage.pack.segment-size:67108864}") long segmentSize,
+                                         @Value("${file.storage.pack.compaction-threshold:0.5}") double compactionThreshold) {
+        Path rootLocation = fileSystemResource.getFile().toPath();
+        LocalDirectoryStorageBackend localBackend = new LocalDirectoryStorageBackend(rootLocation);
+
+        if ("pack".equalsIgnoreCase(backend)) {
+            return new PackFileStorageBackend(rootLocation.resolve("packs"), localBackend,
+                    maxBlobSize, segmentSize, compactionThreshold);
+        }
+        return localBackend;
+    }
 }
\ No newline at end of file
@@ -1,14 +1,20 @@
 package com.example.board.config;
 
+import com.example.board.security.AdaptiveBCryptPasswordEncoder;
 import com.example.board.security.JwtFilter;
 import com.example.board.security.JwtTokenProvider;
+import com.example.board.security.RateLimitFilter;
+import com.example.board.security.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -16,14 +22,23 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     private final JwtTokenProvider tokenProvider;
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${rate-limit.rules:}")
+    private String rateLimitRules;
 
-    public SecurityConfig(JwtTokenProvider tokenProvider) {
+    public SecurityConfig(JwtTokenProvider tokenProvider, RateLimiter rateLimiter, MeterRegistry meterRegistry) {
         this.tokenProvider = tokenProvider;
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
     }
 
     @Bean
@@ -36,11 +51,18 @@ public class SecurityConfig {
                 .httpBasic(basic -> basic.disable())
 
                 .authorizeHttpRequests(auth -> auth
+                        // 스트리밍 응답(ZIP 등)의 비동기 재디스패치는 원래 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // 🌐 인증 없이 접근 가능한 경로
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/categories/**").permitAll()
+                        // 📦 첨부파일 ZIP 은 개별 파일(/api/files/posts/**)과 같이 로그인 필요
+                        .requestMatchers(HttpMethod.GET, "/api/posts/*/attachments.zip").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/posts/**").permitAll()
                         .requestMatchers("/h2-console/**").permitAll()
+                        // 🩺 로드밸런서/오케스트레이터 상태 확인 (토큰 없이)
+                        .requestMatchers(HttpMethod.GET, "/api/health/live", "/api/health/ready").permitAll()
 
                         // 💬 댓글 관련 API
                         .requestMatchers(HttpMethod.GET, "/api/posts/*/comments").permitAll()  // 댓글 조회는 누구나
@@ -52,6 +74,12 @@ public class SecurityConfig {
                         // 🏢 매니저 전용 API (최고 권한)
                         .requestMatchers("/api/manager/**").hasRole("MANAGER")
 
+                        // 🩺 상세 헬스체크는 경로, DB 오류, 스레드 정보 등을 포함하므로 매니저 전용
+                        .requestMatchers("/api/health/detailed").hasRole("MANAGER")
+
+                        // 📈 Prometheus 수집 엔드포인트도 매니저 전용
+                        .requestMatchers("/actuator/prometheus").hasRole("MANAGER")
+
                         // 🛡️ 관리자 API는 ADMIN 이상 권한 필요 (사용자 관리)
                         .requestMatchers("/api/admin/**").hasAnyRole("ADMIN", "MANAGER")
 
@@ -70,7 +98,10 @@ public class SecurityConfig {
         http.headers(headers -> headers.frameOptions().disable());
 
         // 🔑 JWT 필터 추가
-        http.addFilterBefore(new JwtFilter(tokenProvider), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JwtFilter(tokenProvider, meterRegistry), UsernamePasswordAuthenticationFilter.class);
+
+        // 🚦 쓰기 요청 속도 제한 (JWT 인증 후 사용자 id 기준)
+        http.addFilterAfter(new RateLimitFilter(rateLimiter, rateLimitRules), JwtFilter.class);
 
         return http.build();
     }
@@ -94,8 +125,23 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * {bcrypt} 접두사를 붙이는 위임 인코더
+     * 접두사가 없는 기존 해시도 그대로 검증되며, cost 가 다르거나 접두사가 없으면 로그인 시 다시 해시된다
+     * security.bcrypt.strength 가 0 이면 시작 시 목표 시간에 맞춰 cost 를 측정
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.bcrypt.strength:0}") int strength,
+            @Value("${security.bcrypt.target-millis:250}") long targetMillis,
+            @Value("${security.bcrypt.min-strength:10}") int minStrength,
+            @Value("${security.bcrypt.max-strength:16}") int maxStrength) {
+        AdaptiveBCryptPasswordEncoder bcrypt = strength > 0
+                ? new AdaptiveBCryptPasswordEncoder(strength)
+                : AdaptiveBCryptPasswordEncoder.calibrated(targetMillis, minStrength, maxStrength);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 }
\ No newline at end of file
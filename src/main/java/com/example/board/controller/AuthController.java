@@ -5,7 +5,11 @@ import com.example.board.dto.UserDto;
 import com.example.board.entity.User;
 import com.example.board.repository.UserRepository;
 import com.example.board.service.AuthService;
+import com.example.board.service.NicknameRegistry;
+import com.example.board.service.TooManyRequestsException;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
@@ -23,12 +27,15 @@ public class AuthController {
     private final AuthService authService;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final NicknameRegistry nicknameRegistry;
 
     @Autowired
-    public AuthController(AuthService authService, UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public AuthController(AuthService authService, UserRepository userRepository, PasswordEncoder passwordEncoder,
+                          NicknameRegistry nicknameRegistry) {
         this.authService = authService;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.nicknameRegistry = nicknameRegistry;
     }
 
     @PostMapping("/register")
@@ -36,6 +43,10 @@ public class AuthController {
         try {
             UserDto user = authService.register(request);
             return ResponseEntity.ok(user);
+        } catch (TooManyRequestsException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(Map.of("message", e.getMessage()));
         } catch (Exception e) {
             e.printStackTrace();
             Map<String, String> error = new HashMap<>();
@@ -45,10 +56,10 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody AuthDto.LoginRequest request) {
+    public ResponseEntity<?> login(@RequestBody AuthDto.LoginRequest request, HttpServletRequest httpRequest) {
         try {
             // 기존 코드 대신 새로운 login 메서드 호출
-            AuthDto.LoginResponse response = authService.login(request);
+            AuthDto.LoginResponse response = authService.login(request, httpRequest.getRemoteAddr());
 
             // 응답 형식을 명확하게 지정
             Map<String, Object> responseBody = new HashMap<>();
@@ -56,9 +67,11 @@ public class AuthController {
             responseBody.put("refreshToken", response.getRefreshToken());
             responseBody.put("user", response.getUser());
 
-            System.out.println("로그인 성공 응답: " + responseBody); // 디버그 로그
-
             return ResponseEntity.ok(responseBody);
+        } catch (TooManyRequestsException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(Map.of("message", e.getMessage()));
         } catch (Exception e) {
             e.printStackTrace();
             Map<String, String> error = new HashMap<>();
@@ -81,9 +94,12 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(@RequestBody AuthDto.LogoutRequest request) {
+    public ResponseEntity<?> logout(@RequestBody AuthDto.LogoutRequest request,
+                                    @RequestHeader(value = "Authorization", required = false) String authorization) {
         try {
-            authService.logout(request.getRefreshToken());
+            String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                    ? authorization.substring(7) : null;
+            authService.logout(request.getRefreshToken(), accessToken);
             Map<String, String> response = new HashMap<>();
             response.put("message", "로그아웃되었습니다.");
             return ResponseEntity.ok(response);
@@ -95,6 +111,15 @@ public class AuthController {
         }
     }
 
+    // 닉네임 사용 가능 여부 (가입/프로필 수정 화면용)
+    @GetMapping("/nickname-available")
+    public ResponseEntity<?> checkNicknameAvailable(@RequestParam String nickname) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("nickname", nickname);
+        response.put("available", nicknameRegistry.isAvailable(nickname));
+        return ResponseEntity.ok(response);
+    }
+
     // 디버깅용 테스트 엔드포인트
     @GetMapping("/test")
     public ResponseEntity<String> test() {
@@ -0,0 +1,135 @@
+package com.example.board.controller;
+
+import com.example.board.diagnostics.JfrRecordingService;
+import com.example.board.diagnostics.RequestTraceStore;
+import com.example.board.dto.JfrRecordingDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 운영 진단 (매니저 전용)
+ */
+@RestController
+@RequestMapping("/api/manager/diagnostics")
+@CrossOrigin(origins = "*")
+@PreAuthorize("hasRole('MANAGER')")
+public class DiagnosticsController {
+
+    private final RequestTraceStore requestTraceStore;
+    private final JfrRecordingService jfrRecordingService;
+
+    @Autowired
+    public DiagnosticsController(RequestTraceStore requestTraceStore, JfrRecordingService jfrRecordingService) {
+        this.requestTraceStore = requestTraceStore;
+        this.jfrRecordingService = jfrRecordingService;
+    }
+
+    // 가장 느린 요청과 최근 요청 표본 (요청별 SQL 횟수/시간, 느린 SQL, 파일 입출력, 응답 크기)
+    @GetMapping("/requests")
+    public ResponseEntity<Map<String, Object>> getRequestTraces() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("slowest", requestTraceStore.getSlowest());
+        response.put("recent", requestTraceStore.getRecent());
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/requests")
+    public ResponseEntity<Void> clearRequestTraces() {
+        requestTraceStore.clear();
+        return ResponseEntity.noContent().build();
+    }
+
+    // ================================
+    // JFR 기록
+    // ================================
+
+    // 기록 시작 (profile: default 또는 profile, 시간이 지나면 자동으로 끝나고 파일로 남음)
+    @PostMapping("/jfr")
+    public ResponseEntity<?> startRecording(@RequestParam(defaultValue = "profile") String profile,
+                                            @RequestParam(defaultValue = "60") long durationSeconds) {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(jfrRecordingService.start(profile, durationSeconds));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/jfr")
+    public ResponseEntity<List<JfrRecordingDto>> getRecordings() {
+        return ResponseEntity.ok(jfrRecordingService.getRecordings());
+    }
+
+    @GetMapping("/jfr/{id}")
+    public ResponseEntity<?> getRecording(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(jfrRecordingService.getRecording(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/jfr/{id}/stop")
+    public ResponseEntity<?> stopRecording(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(jfrRecordingService.stop(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    // .jfr 파일 내려받기 (JDK Mission Control 등에서 열기)
+    @GetMapping("/jfr/{id}/file")
+    public ResponseEntity<?> downloadRecording(@PathVariable Long id) {
+        try {
+            Path file = jfrRecordingService.getFile(id);
+            Resource resource = new FileSystemResource(file);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .contentLength(resource.contentLength())
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+                    .body(resource);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", e.getMessage()));
+        } catch (IllegalStateException | IOException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    // CPU 를 많이 쓴 메소드, 할당이 많은 위치, 경합이 긴 모니터, 긴 GC 정지 (각 상위 limit 개)
+    @GetMapping("/jfr/{id}/summary")
+    public ResponseEntity<?> getRecordingSummary(@PathVariable Long id,
+                                                 @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(jfrRecordingService.getSummary(id, Math.max(1, Math.min(limit, 100))));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/jfr/{id}")
+    public ResponseEntity<?> deleteRecording(@PathVariable Long id) {
+        try {
+            jfrRecordingService.delete(id);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", e.getMessage()));
+        }
+    }
+}
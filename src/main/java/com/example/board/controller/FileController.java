@@ -1,12 +1,18 @@
 // src/main/java/com/example/board/controller/FileController.java (수정)
 package com.example.board.controller;
 
+import com.example.board.dto.ChunkedUploadDto;
+import com.example.board.service.ChunkedUploadService;
 import com.example.board.service.FileStorageService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -24,10 +30,12 @@ import java.util.stream.Collectors;
 public class FileController {
 
     private final FileStorageService fileStorageService;
+    private final ChunkedUploadService chunkedUploadService;
 
     @Autowired
-    public FileController(FileStorageService fileStorageService) {
+    public FileController(FileStorageService fileStorageService, ChunkedUploadService chunkedUploadService) {
         this.fileStorageService = fileStorageService;
+        this.chunkedUploadService = chunkedUploadService;
     }
 
     /**
@@ -78,6 +86,115 @@ public class FileController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * 청크 업로드 세션 생성 (대용량 파일)
+     */
+    @PostMapping("/uploads/sessions")
+    public ResponseEntity<?> createUploadSession(@RequestBody ChunkedUploadDto.CreateSessionRequest request) {
+        try {
+            ChunkedUploadService.UploadSession session = chunkedUploadService.createSession(
+                    currentUsername(), request.getFileName(), request.getContentType(),
+                    request.getTotalSize(), request.getChunkSize());
+            return ResponseEntity.status(HttpStatus.CREATED).body(toSessionResponse(session));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * 업로드 세션 상태 조회 (재개 시 빠진 청크 확인용)
+     */
+    @GetMapping("/uploads/sessions/{sessionId}")
+    public ResponseEntity<?> getUploadSession(@PathVariable String sessionId) {
+        try {
+            return ResponseEntity.ok(toSessionResponse(chunkedUploadService.getSession(currentUsername(), sessionId)));
+        } catch (ChunkedUploadService.UploadSessionNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * 청크 업로드 (요청 본문 = 청크 바이너리)
+     */
+    @PutMapping(value = "/uploads/sessions/{sessionId}/chunks/{chunkIndex}")
+    public ResponseEntity<?> uploadChunk(@PathVariable String sessionId,
+                                         @PathVariable int chunkIndex,
+                                         HttpServletRequest request) throws IOException {
+        try {
+            ChunkedUploadService.UploadSession session = chunkedUploadService.writeChunk(
+                    currentUsername(), sessionId, chunkIndex, request.getInputStream());
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("sessionId", session.getId());
+            response.put("chunkIndex", chunkIndex);
+            response.put("receivedChunks", session.getReceivedCount());
+            response.put("chunkCount", session.getChunkCount());
+            return ResponseEntity.ok(response);
+        } catch (ChunkedUploadService.UploadSessionNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * 청크 업로드 완료 (임시 파일로 등록)
+     */
+    @PostMapping("/uploads/sessions/{sessionId}/complete")
+    public ResponseEntity<?> completeUploadSession(@PathVariable String sessionId) {
+        try {
+            ChunkedUploadService.UploadSession session = chunkedUploadService.getSession(currentUsername(), sessionId);
+            String fileName = chunkedUploadService.complete(currentUsername(), sessionId);
+
+            String fileDownloadUri = ServletUriComponentsBuilder.fromCurrentContextPath()
+                    .path("/api/files/temp/")
+                    .path(fileName)
+                    .toUriString();
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("fileName", fileName);
+            response.put("originalFileName", session.getFileName());
+            response.put("fileType", session.getContentType());
+            response.put("fileSize", session.getTotalSize());
+            response.put("fileUrl", fileDownloadUri);
+            return ResponseEntity.ok(response);
+        } catch (ChunkedUploadService.UploadSessionNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * 청크 업로드 취소
+     */
+    @DeleteMapping("/uploads/sessions/{sessionId}")
+    public ResponseEntity<?> abortUploadSession(@PathVariable String sessionId) {
+        try {
+            chunkedUploadService.abort(currentUsername(), sessionId);
+            return ResponseEntity.noContent().build();
+        } catch (ChunkedUploadService.UploadSessionNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    private Map<String, Object> toSessionResponse(ChunkedUploadService.UploadSession session) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("sessionId", session.getId());
+        response.put("fileName", session.getFileName());
+        response.put("totalSize", session.getTotalSize());
+        response.put("chunkSize", session.getChunkSize());
+        response.put("chunkCount", session.getChunkCount());
+        response.put("receivedChunks", session.getReceivedCount());
+        response.put("missingChunks", session.getMissingChunks());
+        return response;
+    }
+
+    private String currentUsername() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null ? auth.getName() : "anonymousUser";
+    }
+
     /**
      * 프로필 이미지 조회
      */
@@ -1,6 +1,11 @@
 // src/main/java/com/example/board/controller/HealthController.java
 package com.example.board.controller;
 
+import com.example.board.diagnostics.HealthProbe;
+import com.example.board.migration.DataMigrationRunner;
+import com.example.board.service.UserSearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -16,16 +21,30 @@ public class HealthController {
 
     private final LocalDateTime startTime = LocalDateTime.now();
 
+    private final HealthProbe healthProbe;
+    private final DataMigrationRunner dataMigrationRunner;
+    private final UserSearchIndex userSearchIndex;
+
+    @Autowired
+    public HealthController(HealthProbe healthProbe, DataMigrationRunner dataMigrationRunner,
+                            UserSearchIndex userSearchIndex) {
+        this.healthProbe = healthProbe;
+        this.dataMigrationRunner = dataMigrationRunner;
+        this.userSearchIndex = userSearchIndex;
+    }
+
     /**
      * 기본 헬스체크 엔드포인트
-     * 프론트엔드에서 서버 상태를 확인하는 용도
+     * 프론트엔드에서 서버 상태를 확인하는 용도 (DB/디스크 확인 결과 반영, DOWN 이면 503)
      */
     @GetMapping("/health")
     public ResponseEntity<Map<String, Object>> healthCheck() {
         Map<String, Object> response = new HashMap<>();
+        HealthProbe.Readiness readiness = healthProbe.readiness();
 
-        response.put("status", "UP");
-        response.put("message", "서버가 정상적으로 동작 중입니다.");
+        response.put("status", readiness.status());
+        response.put("message", HealthProbe.DOWN.equals(readiness.status())
+                ? "서버를 사용할 수 없는 상태입니다." : "서버가 정상적으로 동작 중입니다.");
         response.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
         response.put("server", "Board Application Server");
         response.put("version", "1.0.0");
@@ -34,20 +53,45 @@ public class HealthController {
         LocalDateTime now = LocalDateTime.now();
         response.put("uptime", calculateUptime(startTime, now));
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.status(httpStatus(readiness)).body(response);
+    }
+
+    /**
+     * 생존 확인 (liveness) - 요청을 처리할 수 있으면 UP, 외부 의존성은 확인하지 않음
+     */
+    @GetMapping("/health/live")
+    public ResponseEntity<Map<String, String>> liveness() {
+        return ResponseEntity.ok(Map.of("status", "UP"));
+    }
+
+    /**
+     * 준비 확인 (readiness) - DB 연결, 업로드 디렉토리, 커넥션 풀 (짧은 시간 캐시), DOWN 이면 503
+     * 인증 없이 열려 있으므로 상태만 반환 (경로, 오류 메시지 등 세부 내용은 /health/detailed)
+     */
+    @GetMapping("/health/ready")
+    public ResponseEntity<Map<String, Object>> readiness() {
+        HealthProbe.Readiness readiness = healthProbe.readiness();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", readiness.status());
+        response.put("checkedAt", readiness.checkedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        return ResponseEntity.status(httpStatus(readiness)).body(response);
     }
 
     /**
      * 상세 헬스체크 엔드포인트
-     * 더 자세한 시스템 정보 제공
+     * 더 자세한 시스템 정보 제공 (매니저 전용, SecurityConfig)
      */
     @GetMapping("/health/detailed")
     public ResponseEntity<Map<String, Object>> detailedHealthCheck() {
         Map<String, Object> response = new HashMap<>();
 
         // 기본 상태 정보
-        response.put("status", "UP");
-        response.put("message", "서버가 정상적으로 동작 중입니다.");
+        HealthProbe.Readiness readiness = healthProbe.readiness();
+        response.put("status", readiness.status());
+        response.put("message", HealthProbe.DOWN.equals(readiness.status())
+                ? "서버를 사용할 수 없는 상태입니다." : "서버가 정상적으로 동작 중입니다.");
+        response.put("checks", readiness.checks());
         response.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
 
         // 서버 정보
@@ -75,6 +119,28 @@ public class HealthController {
         systemInfo.put("memoryUsagePercent", (double) usedMemory / totalMemory * 100);
         response.put("system", systemInfo);
 
+        // GC 누적 정지 시간, 스레드 수, direct/mapped 버퍼
+        response.put("runtime", healthProbe.runtime());
+
+        // 백그라운드 데이터 마이그레이션 (실패하면 다음 시작 시 이어서 실행)
+        Map<String, Object> migrations = new HashMap<>();
+        migrations.put("finished", dataMigrationRunner.isFinished());
+        if (dataMigrationRunner.getFailedStep() != null) {
+            migrations.put("failedStep", dataMigrationRunner.getFailedStep());
+            migrations.put("error", dataMigrationRunner.getFailure());
+        }
+        response.put("migrations", migrations);
+
+        // 사용자 검색 인덱스 (준비 전이나 생성 실패 중에는 DB 검색 사용, 실패하면 재시도)
+        Map<String, Object> searchIndex = new HashMap<>();
+        searchIndex.put("ready", userSearchIndex.isReady());
+        searchIndex.put("size", userSearchIndex.size());
+        if (userSearchIndex.getFailedBuilds() > 0) {
+            searchIndex.put("failedBuilds", userSearchIndex.getFailedBuilds());
+            searchIndex.put("error", userSearchIndex.getLastBuildError());
+        }
+        response.put("searchIndex", searchIndex);
+
         // 애플리케이션 정보
         Map<String, Object> appInfo = new HashMap<>();
         appInfo.put("javaVersion", System.getProperty("java.version"));
@@ -143,6 +209,10 @@ public class HealthController {
         return ResponseEntity.ok(response);
     }
 
+    private HttpStatus httpStatus(HealthProbe.Readiness readiness) {
+        return HealthProbe.DOWN.equals(readiness.status()) ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.OK;
+    }
+
     /**
      * 서버 가동 시간 계산
      */
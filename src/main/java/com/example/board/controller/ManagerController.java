@@ -1,15 +1,21 @@
 package com.example.board.controller;
 
+import com.example.board.dto.AuditEventDto;
 import com.example.board.dto.BoardCategoryDto;
+import com.example.board.dto.PageResponse;
 import com.example.board.dto.UserDto;
+import com.example.board.dto.UserSummaryDto;
 import com.example.board.entity.UserRole;
+import com.example.board.service.AuditJournal;
 import com.example.board.service.BoardCategoryService;
 import com.example.board.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -21,11 +27,14 @@ public class ManagerController {
 
     private final UserService userService;
     private final BoardCategoryService boardCategoryService;
+    private final AuditJournal auditJournal;
 
     @Autowired
-    public ManagerController(UserService userService, BoardCategoryService boardCategoryService) {
+    public ManagerController(UserService userService, BoardCategoryService boardCategoryService,
+                             AuditJournal auditJournal) {
         this.userService = userService;
         this.boardCategoryService = boardCategoryService;
+        this.auditJournal = auditJournal;
     }
 
     // ================================
@@ -38,6 +47,22 @@ public class ManagerController {
         return ResponseEntity.ok(users);
     }
 
+    // 사용자 목록 (페이지, 필터: role, locked, enabled, createdFrom/createdTo, min/maxWarningCount)
+    // 정렬: sort=필드,asc|desc (id, username, nickname, createdDate, warningCount, role)
+    @GetMapping("/users/page")
+    public ResponseEntity<?> getUserPage(
+            @ModelAttribute UserSummaryDto.Filter filter,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort) {
+        try {
+            PageResponse<UserSummaryDto> users = userService.getUserSummaries(filter, page, size, sort);
+            return ResponseEntity.ok(users);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
     @GetMapping("/users/{id}")
     public ResponseEntity<UserDto> getUserById(@PathVariable Long id) {
         UserDto user = userService.getUserById(id);
@@ -125,4 +150,22 @@ public class ManagerController {
         Map<String, Object> dashboard = userService.getManagerDashboard();
         return ResponseEntity.ok(dashboard);
     }
+
+    // ================================
+    // 감사 로그 (쓰기 작업 기록)
+    // ================================
+
+    // since 이후 이벤트를 기록 순으로 (기본: 최근 24시간), 다음 페이지는 마지막 이벤트의 seq 를 after 로 (after 가 있으면 since 무시)
+    @GetMapping("/audit")
+    public ResponseEntity<List<AuditEventDto>> getAuditEvents(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "100") int limit) {
+        int size = Math.max(1, Math.min(limit, 1000));
+        if (after != null) {
+            return ResponseEntity.ok(auditJournal.findAfter(after, size));
+        }
+        LocalDateTime from = since != null ? since : LocalDateTime.now().minusDays(1);
+        return ResponseEntity.ok(auditJournal.find(from, size));
+    }
 }
\ No newline at end of file
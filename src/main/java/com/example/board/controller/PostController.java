@@ -2,13 +2,16 @@
 package com.example.board.controller;
 
 import com.example.board.dto.PostDto;
+import com.example.board.service.AttachmentArchiveService;
 import com.example.board.service.PostService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Collections;
 import java.util.List;
@@ -19,10 +22,12 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final AttachmentArchiveService attachmentArchiveService;
 
     @Autowired
-    public PostController(PostService postService) {
+    public PostController(PostService postService, AttachmentArchiveService attachmentArchiveService) {
         this.postService = postService;
+        this.attachmentArchiveService = attachmentArchiveService;
     }
 
     // 모든 게시글 목록 조회
@@ -54,6 +59,28 @@ public class PostController {
         }
     }
 
+    // 게시글 첨부파일 전체 ZIP 다운로드 (스트리밍)
+    @GetMapping("/posts/{id}/attachments.zip")
+    public ResponseEntity<StreamingResponseBody> downloadAttachments(@PathVariable Long id) {
+        List<PostDto.AttachmentDto> attachments;
+        try {
+            attachments = postService.getAttachments(id);
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+
+        if (attachments.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        StreamingResponseBody body = outputStream -> attachmentArchiveService.writeZip(attachments, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"post_" + id + "_attachments.zip\"")
+                .body(body);
+    }
+
     // 게시글 생성 - JSON 요청
     @PostMapping("/posts")
     public ResponseEntity<PostDto> createPost(@RequestBody PostDto postDto) {
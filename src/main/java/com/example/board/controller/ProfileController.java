@@ -4,6 +4,7 @@ package com.example.board.controller;
 import com.example.board.dto.UserDto;
 import com.example.board.entity.User;
 import com.example.board.repository.UserRepository;
+import com.example.board.security.CurrentUser;
 import com.example.board.service.FileStorageService;
 import com.example.board.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -39,16 +40,13 @@ public class ProfileController {
      */
     @GetMapping("/me")
     public ResponseEntity<?> getMyProfile() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        CurrentUser currentUser = CurrentUser.get().orElse(null);
 
-        if (auth == null || !auth.isAuthenticated() || auth.getPrincipal().equals("anonymousUser")) {
+        if (currentUser == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("message", "인증이 필요합니다."));
         }
 
-        User user = userRepository.findByUsername(auth.getName())
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        UserDto userDto = UserDto.fromEntity(user);
+        UserDto userDto = userService.getUserById(currentUser.getId());
 
         // 프로필 이미지 URL 설정
         if (userDto.getProfileImage() != null) {
@@ -73,10 +71,7 @@ public class ProfileController {
      */
     @GetMapping("/{username}")
     public ResponseEntity<?> getUserProfile(@PathVariable String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        UserDto userDto = UserDto.fromEntity(user);
+        UserDto userDto = userService.getUserByUsername(username);
 
         // 민감한 정보 제거
         userDto.setEmail(null);
@@ -122,14 +117,14 @@ public class ProfileController {
      */
     @PostMapping("/image")
     public ResponseEntity<?> uploadProfileImage(@RequestParam("image") MultipartFile file) {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        CurrentUser currentUser = CurrentUser.get().orElse(null);
 
-        if (auth == null || !auth.isAuthenticated() || auth.getPrincipal().equals("anonymousUser")) {
+        if (currentUser == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("message", "인증이 필요합니다."));
         }
 
         try {
-            User user = userRepository.findByUsername(auth.getName())
+            User user = userRepository.findById(currentUser.getId())
                     .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
             // 기존 프로필 이미지가 있으면 삭제
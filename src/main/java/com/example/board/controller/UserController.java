@@ -1,6 +1,8 @@
 package com.example.board.controller;
 
+import com.example.board.dto.PageResponse;
 import com.example.board.dto.UserDto;
+import com.example.board.dto.UserSummaryDto;
 import com.example.board.entity.UserRole;
 import com.example.board.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +11,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/admin/users")
@@ -29,6 +32,31 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
+    // 사용자 목록 (페이지, 필터: role, locked, enabled, createdFrom/createdTo, min/maxWarningCount)
+    // 정렬: sort=필드,asc|desc (id, username, nickname, createdDate, warningCount, role)
+    @GetMapping("/page")
+    public ResponseEntity<?> getUserPage(
+            @ModelAttribute UserSummaryDto.Filter filter,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort) {
+        try {
+            PageResponse<UserSummaryDto> users = userService.getUserSummaries(filter, page, size, sort);
+            return ResponseEntity.ok(users);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    // 사용자 검색 (username, nickname, name, email 부분 일치)
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<UserDto>> searchUsers(
+            @RequestParam(defaultValue = "") String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(userService.searchUsers(keyword, page, size));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<UserDto> getUserById(@PathVariable Long id) {
         UserDto user = userService.getUserById(id);
@@ -0,0 +1,299 @@
+package com.example.board.diagnostics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 준비 상태(readiness) 확인과 런타임 진단 정보
+ * - DB: 전용 스레드에서 커넥션을 얻어 isValid 확인, db-timeout-ms 안에 끝나지 않으면 DOWN
+ *   (이전 확인이 아직 끝나지 않았으면 새로 시작하지 않고 DOWN, 확인 요청이 쌓이지 않음)
+ *   풀에 남은 커넥션이 없으면 확인하지 않고 BUSY (커넥션 대기로 막히면 바쁜 인스턴스가 DOWN 으로 빠지므로)
+ * - 업로드 디렉토리: 남은 공간과 실제 파일 생성 가능 여부
+ * - 커넥션 풀: 사용 중/대기 스레드 수 (모두 사용 중이고 대기자가 있으면 SATURATED)
+ * 결과는 cache-ttl-ms 동안 재사용하며, 갱신은 한 스레드만 하고 나머지는 이전 결과를 바로 받는다.
+ */
+@Component
+public class HealthProbe {
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthProbe.class);
+
+    public static final String UP = "UP";
+    public static final String DOWN = "DOWN";
+    public static final String DEGRADED = "DEGRADED";
+    public static final String BUSY = "BUSY";
+
+    private final DataSource dataSource;
+    private final Path uploadDirectory;
+    private final long cacheTtlNanos;
+    private final long dbTimeoutMillis;
+    private final long minFreeBytes;
+
+    private final ExecutorService dbProbeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "health-db-probe");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Future<?> runningDbProbe;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Readiness readiness;
+    private volatile long readinessCheckedNanos;
+    private volatile Map<String, Object> runtime;
+    private volatile long runtimeCheckedNanos;
+
+    @Autowired
+    public HealthProbe(DataSource dataSource,
+                       FileSystemResource fileStorageResource,
+                       @Value("${health.cache-ttl-ms:2000}") long cacheTtlMillis,
+                       @Value("${health.db-timeout-ms:1000}") long dbTimeoutMillis,
+                       @Value("${health.disk.min-free-mb:500}") long minFreeMegabytes) {
+        this.dataSource = dataSource;
+        this.uploadDirectory = fileStorageResource.getFile().toPath().toAbsolutePath();
+        this.cacheTtlNanos = TimeUnit.MILLISECONDS.toNanos(cacheTtlMillis);
+        this.dbTimeoutMillis = dbTimeoutMillis;
+        this.minFreeBytes = minFreeMegabytes * 1024 * 1024;
+    }
+
+    /**
+     * 준비 상태 (DB 또는 디스크가 DOWN 이면 DOWN, 풀 포화/디스크 부족이면 DEGRADED)
+     */
+    public Readiness readiness() {
+        Readiness current = readiness;
+        if (current != null && System.nanoTime() - readinessCheckedNanos < cacheTtlNanos) {
+            return current;
+        }
+        // 다른 스레드가 갱신 중이면 기다리지 않고 이전 결과 사용
+        if (!refreshLock.tryLock()) {
+            return current != null ? current : new Readiness(DOWN, Map.of(), LocalDateTime.now());
+        }
+        try {
+            if (readiness == current || readiness == null) {
+                readiness = check();
+                readinessCheckedNanos = System.nanoTime();
+            }
+            return readiness;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 메모리, GC 누적 정지 시간, 스레드 수, direct/mapped 버퍼 사용량 (cache-ttl-ms 동안 재사용)
+     */
+    public Map<String, Object> runtime() {
+        Map<String, Object> current = runtime;
+        if (current == null || System.nanoTime() - runtimeCheckedNanos >= cacheTtlNanos) {
+            current = collectRuntime();
+            runtime = current;
+            runtimeCheckedNanos = System.nanoTime();
+        }
+        return current;
+    }
+
+    private Readiness check() {
+        Map<String, Object> checks = new LinkedHashMap<>();
+        // 풀 상태를 먼저 보고 DB 확인 여부를 정함
+        Map<String, Object> pool = checkPool();
+        Map<String, Object> database = checkDatabase(pool);
+        Map<String, Object> disk = checkDisk();
+        checks.put("database", database);
+        checks.put("disk", disk);
+        if (pool != null) {
+            checks.put("connectionPool", pool);
+        }
+
+        String status = UP;
+        if (DOWN.equals(database.get("status")) || DOWN.equals(disk.get("status"))) {
+            status = DOWN;
+        } else if (!UP.equals(database.get("status")) || !UP.equals(disk.get("status"))
+                || (pool != null && !UP.equals(pool.get("status")))) {
+            status = DEGRADED;
+        }
+        if (!UP.equals(status)) {
+            logger.warn("준비 상태 {}: {}", status, checks);
+        }
+        return new Readiness(status, checks, LocalDateTime.now());
+    }
+
+    private Map<String, Object> checkDatabase(Map<String, Object> pool) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (exhausted(pool)) {
+            // 커넥션을 빌리면 Hikari connectionTimeout 동안 막힘 - 풀이 바쁜 것이지 DB 장애는 아님
+            result.put("status", BUSY);
+            result.put("error", "커넥션 풀이 모두 사용 중이라 확인을 건너뜀");
+            return result;
+        }
+        if (runningDbProbe != null && !runningDbProbe.isDone()) {
+            result.put("status", DOWN);
+            result.put("error", "이전 확인이 아직 끝나지 않았습니다");
+            return result;
+        }
+
+        long start = System.nanoTime();
+        Future<Boolean> probe = dbProbeExecutor.submit(() -> {
+            try (Connection connection = dataSource.getConnection()) {
+                return connection.isValid((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(dbTimeoutMillis)));
+            }
+        });
+        runningDbProbe = probe;
+        try {
+            boolean valid = probe.get(dbTimeoutMillis, TimeUnit.MILLISECONDS);
+            result.put("status", valid ? UP : DOWN);
+        } catch (TimeoutException e) {
+            // 확인하는 사이 풀이 바닥났으면 커넥션 대기로 늦어진 것
+            result.put("status", exhausted(checkPool()) ? BUSY : DOWN);
+            result.put("error", "응답 시간 초과 (" + dbTimeoutMillis + "ms)");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.put("status", DOWN);
+            result.put("error", "확인 중단");
+        } catch (Exception e) {
+            result.put("status", DOWN);
+            result.put("error", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+        }
+        result.put("responseMillis", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return result;
+    }
+
+    private Map<String, Object> checkDisk() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("path", uploadDirectory.toString());
+        try {
+            long usable = Files.getFileStore(uploadDirectory).getUsableSpace();
+            result.put("freeMB", usable / 1024 / 1024);
+            result.put("minFreeMB", minFreeBytes / 1024 / 1024);
+
+            // 권한/읽기 전용 마운트는 실제로 만들어 봐야 알 수 있음
+            Path probe = Files.createTempFile(uploadDirectory, ".health-", ".tmp");
+            Files.delete(probe);
+            result.put("writable", true);
+            result.put("status", usable >= minFreeBytes ? UP : "LOW_SPACE");
+        } catch (IOException e) {
+            result.put("writable", false);
+            result.put("status", DOWN);
+            result.put("error", e.getMessage());
+        }
+        return result;
+    }
+
+    // 남은 커넥션 없이 최대 크기까지 모두 사용 중 (새로 빌리면 대기)
+    private static boolean exhausted(Map<String, Object> pool) {
+        return pool != null && (int) pool.get("idle") == 0 && (int) pool.get("total") >= (int) pool.get("max");
+    }
+
+    // Hikari 가 아니면 null
+    private Map<String, Object> checkPool() {
+        HikariDataSource hikari;
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return null;
+            }
+            hikari = dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            return null;
+        }
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null) {
+            return null;
+        }
+
+        int max = hikari.getMaximumPoolSize();
+        int active = pool.getActiveConnections();
+        int waiting = pool.getThreadsAwaitingConnection();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("status", active >= max && waiting > 0 ? "SATURATED" : UP);
+        result.put("active", active);
+        result.put("idle", pool.getIdleConnections());
+        result.put("total", pool.getTotalConnections());
+        result.put("max", max);
+        result.put("threadsAwaiting", waiting);
+        result.put("usagePercent", max > 0 ? Math.round(active * 100.0 / max) : 0);
+        return result;
+    }
+
+    private Map<String, Object> collectRuntime() {
+        Map<String, Object> result = new LinkedHashMap<>();
+
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        MemoryUsage nonHeap = ManagementFactory.getMemoryMXBean().getNonHeapMemoryUsage();
+        Map<String, Object> memory = new LinkedHashMap<>();
+        memory.put("heapUsedMB", heap.getUsed() / 1024 / 1024);
+        memory.put("heapCommittedMB", heap.getCommitted() / 1024 / 1024);
+        memory.put("heapMaxMB", heap.getMax() / 1024 / 1024);
+        memory.put("nonHeapUsedMB", nonHeap.getUsed() / 1024 / 1024);
+        result.put("memory", memory);
+
+        // 시작 후 누적 (수집기별 횟수/시간)
+        Map<String, Object> gc = new LinkedHashMap<>();
+        long totalCount = 0;
+        long totalMillis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            long count = Math.max(0, collector.getCollectionCount());
+            long millis = Math.max(0, collector.getCollectionTime());
+            gc.put(collector.getName(), Map.of("count", count, "timeMillis", millis));
+            totalCount += count;
+            totalMillis += millis;
+        }
+        gc.put("totalCount", totalCount);
+        gc.put("totalTimeMillis", totalMillis);
+        result.put("gc", gc);
+
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        Map<String, Object> threads = new LinkedHashMap<>();
+        threads.put("live", threadBean.getThreadCount());
+        threads.put("daemon", threadBean.getDaemonThreadCount());
+        threads.put("peak", threadBean.getPeakThreadCount());
+        long[] deadlocked = threadBean.findDeadlockedThreads();
+        threads.put("deadlocked", deadlocked != null ? deadlocked.length : 0);
+        result.put("threads", threads);
+
+        // 팩 저장소의 메모리 매핑 세그먼트는 mapped, NIO 버퍼는 direct
+        Map<String, Object> bufferPools = new LinkedHashMap<>();
+        List<BufferPoolMXBean> pools = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class);
+        for (BufferPoolMXBean pool : pools) {
+            bufferPools.put(pool.getName(), Map.of(
+                    "count", pool.getCount(),
+                    "usedMB", pool.getMemoryUsed() / 1024 / 1024,
+                    "capacityMB", pool.getTotalCapacity() / 1024 / 1024));
+        }
+        result.put("bufferPools", bufferPools);
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dbProbeExecutor.shutdownNow();
+    }
+
+    public record Readiness(String status, Map<String, Object> checks, LocalDateTime checkedAt) {
+    }
+}
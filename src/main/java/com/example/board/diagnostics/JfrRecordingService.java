@@ -0,0 +1,434 @@
+package com.example.board.diagnostics;
+
+import com.example.board.dto.JfrRecordingDto;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 필요할 때만 켜는 Java Flight Recorder 기록
+ * - 동시에 max-concurrent 개까지, 최대 max-duration-seconds 동안, 디스크 보관 크기는 max-size-mb 로 제한
+ * - 기록이 끝나면 directory 에 .jfr 파일로 남고, 끝난 기록(완료/실패)은 최근 max-files 개만 보관
+ * - 요약은 jdk.jfr.consumer 로 파일을 한 번 읽어 만들고 기록별로 재사용
+ */
+@Component
+public class JfrRecordingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JfrRecordingService.class);
+
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    private final Path directory;
+    private final int maxConcurrent;
+    private final long maxDurationSeconds;
+    private final long maxSizeBytes;
+    private final int maxFiles;
+
+    // id 순 (모든 접근은 this 로 동기화)
+    private final Map<Long, Entry> recordings = new LinkedHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    @Autowired
+    public JfrRecordingService(@Value("${diagnostics.jfr.directory:./jfr}") String directory,
+                               @Value("${diagnostics.jfr.max-concurrent:1}") int maxConcurrent,
+                               @Value("${diagnostics.jfr.max-duration-seconds:300}") long maxDurationSeconds,
+                               @Value("${diagnostics.jfr.max-size-mb:100}") long maxSizeMegabytes,
+                               @Value("${diagnostics.jfr.max-files:5}") int maxFiles) {
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.maxDurationSeconds = maxDurationSeconds;
+        this.maxSizeBytes = maxSizeMegabytes * 1024 * 1024;
+        this.maxFiles = Math.max(1, maxFiles);
+    }
+
+    /**
+     * 기록 시작
+     *
+     * @throws IllegalArgumentException 알 수 없는 설정 이름이나 허용 범위를 벗어난 시간
+     * @throws IllegalStateException    JFR 을 쓸 수 없거나 동시 기록 수 초과
+     */
+    public synchronized JfrRecordingDto start(String profile, long durationSeconds) {
+        if (!FlightRecorder.isAvailable()) {
+            throw new IllegalStateException("이 JVM 에서는 JFR 을 사용할 수 없습니다.");
+        }
+        if (durationSeconds < 1 || durationSeconds > maxDurationSeconds) {
+            throw new IllegalArgumentException("기록 시간은 1~" + maxDurationSeconds + "초만 가능합니다: " + durationSeconds);
+        }
+        Set<String> profiles = availableProfiles();
+        if (!profiles.contains(profile)) {
+            throw new IllegalArgumentException("알 수 없는 JFR 설정입니다: " + profile + " (가능: " + profiles + ")");
+        }
+        closeFinishedRecordings();
+        long running = recordings.values().stream().filter(entry -> RUNNING.equals(entry.state)).count();
+        if (running >= maxConcurrent) {
+            throw new IllegalStateException("이미 진행 중인 기록이 있습니다 (최대 " + maxConcurrent + "개).");
+        }
+
+        long id = ids.incrementAndGet();
+        Path file = directory.resolve(String.format("board-%d-%d.jfr", System.currentTimeMillis(), id));
+        Entry entry = new Entry(id, profile, durationSeconds, file);
+        try {
+            Files.createDirectories(directory);
+            Recording recording = new Recording(Configuration.getConfiguration(profile));
+            recording.setName("board-" + id);
+            recording.setToDisk(true);
+            recording.setMaxSize(maxSizeBytes);
+            recording.setDuration(Duration.ofSeconds(durationSeconds));
+            // 시간이 지나 멈추면 이 파일로 기록됨
+            recording.setDestination(file);
+            recording.start();
+            entry.recording = recording;
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("JFR 기록을 시작할 수 없습니다: " + e.getMessage(), e);
+        }
+
+        recordings.put(id, entry);
+        logger.info("JFR 기록 시작: #{} ({} 설정, {}초) → {}", id, profile, durationSeconds, file);
+        return entry.toDto();
+    }
+
+    /**
+     * 진행 중인 기록을 일찍 끝내고 파일로 저장
+     */
+    public synchronized JfrRecordingDto stop(Long id) {
+        Entry entry = find(id);
+        if (RUNNING.equals(entry.state) && entry.recording.getState() == RecordingState.RUNNING) {
+            entry.recording.stop();
+        }
+        closeFinishedRecordings();
+        return entry.toDto();
+    }
+
+    public synchronized List<JfrRecordingDto> getRecordings() {
+        closeFinishedRecordings();
+        return recordings.values().stream().map(Entry::toDto).collect(Collectors.toList());
+    }
+
+    public synchronized JfrRecordingDto getRecording(Long id) {
+        closeFinishedRecordings();
+        return find(id).toDto();
+    }
+
+    /**
+     * 완료된 기록 파일 경로
+     */
+    public synchronized Path getFile(Long id) {
+        closeFinishedRecordings();
+        Entry entry = find(id);
+        if (!COMPLETED.equals(entry.state) || !Files.exists(entry.file)) {
+            throw new IllegalStateException("완료된 기록 파일이 없습니다: #" + id + " (" + entry.state + ")");
+        }
+        return entry.file;
+    }
+
+    /**
+     * 기록 요약 (CPU 를 많이 쓴 메소드, 할당이 많은 위치, 경합이 긴 모니터, 긴 GC 정지)
+     */
+    public Map<String, Object> getSummary(Long id, int limit) {
+        Entry entry;
+        Path file;
+        synchronized (this) {
+            file = getFile(id);
+            entry = find(id);
+            if (entry.summary != null && entry.summaryLimit >= limit) {
+                // 더 큰 limit 으로 만든 요약이면 요청한 개수만큼 잘라서 반환
+                return entry.summaryLimit == limit ? entry.summary : trim(entry.summary, limit);
+            }
+        }
+
+        // 파일 읽기는 잠금 밖에서 (다른 기록 조회를 막지 않도록)
+        Map<String, Object> summary;
+        try {
+            summary = summarize(file, limit);
+        } catch (IOException e) {
+            throw new IllegalStateException("기록 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+        synchronized (this) {
+            entry.summary = summary;
+            entry.summaryLimit = limit;
+        }
+        return summary;
+    }
+
+    /**
+     * 기록 삭제 (진행 중이면 중단, 파일도 삭제)
+     */
+    public synchronized void delete(Long id) {
+        Entry entry = find(id);
+        if (entry.recording != null) {
+            entry.recording.close();
+        }
+        recordings.remove(id);
+        deleteFile(entry.file);
+    }
+
+    /**
+     * 시간이 다 되어 멈춘 기록을 닫고 완료 처리 (파일은 JFR 이 멈출 때 이미 기록함)
+     */
+    @Scheduled(fixedDelayString = "${diagnostics.jfr.check-interval-ms:5000}")
+    public synchronized void closeFinishedRecordings() {
+        boolean finished = false;
+        for (Entry entry : recordings.values()) {
+            if (!RUNNING.equals(entry.state) || entry.recording.getState() == RecordingState.RUNNING
+                    || entry.recording.getState() == RecordingState.DELAYED
+                    || entry.recording.getState() == RecordingState.NEW) {
+                continue;
+            }
+            entry.recording.close();
+            entry.recording = null;
+            finished = true;
+            if (Files.exists(entry.file)) {
+                entry.state = COMPLETED;
+                logger.info("JFR 기록 완료: #{} → {}", entry.id, entry.file);
+            } else {
+                entry.state = FAILED;
+                entry.error = "기록 파일이 만들어지지 않았습니다.";
+                logger.warn("JFR 기록 실패: #{} (파일 없음)", entry.id);
+            }
+        }
+        if (finished) {
+            deleteExpiredFiles();
+        }
+    }
+
+    // 끝난 기록(완료/실패)은 최근 maxFiles 개만 보관
+    private void deleteExpiredFiles() {
+        List<Entry> finished = recordings.values().stream()
+                .filter(entry -> !RUNNING.equals(entry.state))
+                .collect(Collectors.toList());
+        for (int i = 0; i < finished.size() - maxFiles; i++) {
+            Entry expired = finished.get(i);
+            recordings.remove(expired.id);
+            deleteFile(expired.file);
+        }
+    }
+
+    private void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("JFR 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    private Entry find(Long id) {
+        Entry entry = id != null ? recordings.get(id) : null;
+        if (entry == null) {
+            throw new IllegalArgumentException("JFR 기록을 찾을 수 없습니다: " + id);
+        }
+        return entry;
+    }
+
+    private static Set<String> availableProfiles() {
+        return Configuration.getConfigurations().stream()
+                .map(Configuration::getName)
+                .collect(Collectors.toSet());
+    }
+
+    // ================================
+    // 요약 (이벤트를 한 번씩 순서대로 읽음)
+    // ================================
+
+    private static Map<String, Object> summarize(Path file, int limit) throws IOException {
+        Map<String, long[]> executionSamples = new HashMap<>();
+        Map<String, long[]> allocations = new HashMap<>();
+        Map<String, long[]> monitors = new HashMap<>();
+        List<Map<String, Object>> gcPauses = new ArrayList<>();
+        long sampleCount = 0;
+        long allocatedBytes = 0;
+        long gcCount = 0;
+        Duration gcPauseTotal = Duration.ZERO;
+
+        try (RecordingFile recordingFile = new RecordingFile(file)) {
+            while (recordingFile.hasMoreEvents()) {
+                RecordedEvent event = recordingFile.readEvent();
+                switch (event.getEventType().getName()) {
+                    case "jdk.ExecutionSample" -> {
+                        sampleCount++;
+                        add(executionSamples, topFrame(event.getStackTrace()), 1, 0);
+                    }
+                    case "jdk.ObjectAllocationSample" -> {
+                        long weight = event.getLong("weight");
+                        allocatedBytes += weight;
+                        add(allocations, topFrame(event.getStackTrace()), 1, weight);
+                    }
+                    case "jdk.JavaMonitorEnter" -> {
+                        RecordedClass monitorClass = event.getClass("monitorClass");
+                        String key = (monitorClass != null ? monitorClass.getName() : "?")
+                                + " @ " + topFrame(event.getStackTrace());
+                        add(monitors, key, 1, event.getDuration().toNanos());
+                    }
+                    case "jdk.GarbageCollection" -> {
+                        gcCount++;
+                        gcPauseTotal = gcPauseTotal.plus(event.getDuration("sumOfPauses"));
+                        Map<String, Object> pause = new LinkedHashMap<>();
+                        pause.put("name", event.getString("name"));
+                        pause.put("cause", event.getString("cause"));
+                        pause.put("startTime", event.getStartTime().toString());
+                        pause.put("longestPauseMillis", toMillis(event.getDuration("longestPause").toNanos()));
+                        pause.put("sumOfPausesMillis", toMillis(event.getDuration("sumOfPauses").toNanos()));
+                        gcPauses.add(pause);
+                    }
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+
+        long totalSamples = sampleCount;
+        Map<String, Object> cpu = new LinkedHashMap<>();
+        cpu.put("sampleCount", sampleCount);
+        cpu.put("hotMethods", top(executionSamples, limit, Comparator.comparingLong(e -> e.getValue()[0]),
+                (method, value) -> Map.of("method", method, "samples", value[0],
+                        "percent", Math.round(value[0] * 1000.0 / Math.max(1, totalSamples)) / 10.0)));
+        summary.put("cpu", cpu);
+
+        Map<String, Object> allocation = new LinkedHashMap<>();
+        allocation.put("sampledBytes", allocatedBytes);
+        allocation.put("topSites", top(allocations, limit, Comparator.comparingLong(e -> e.getValue()[1]),
+                (site, value) -> Map.of("site", site, "samples", value[0], "bytes", value[1])));
+        summary.put("allocation", allocation);
+
+        summary.put("contendedMonitors", top(monitors, limit, Comparator.comparingLong(e -> e.getValue()[1]),
+                (monitor, value) -> Map.of("monitor", monitor, "count", value[0], "totalMillis", toMillis(value[1]))));
+
+        Map<String, Object> gc = new LinkedHashMap<>();
+        gc.put("count", gcCount);
+        gc.put("totalPauseMillis", toMillis(gcPauseTotal.toNanos()));
+        gcPauses.sort(Comparator.comparingDouble((Map<String, Object> pause) -> (Double) pause.get("longestPauseMillis")).reversed());
+        gc.put("longestPauses", gcPauses.subList(0, Math.min(limit, gcPauses.size())));
+        summary.put("gc", gc);
+        return summary;
+    }
+
+    // 요약의 상위 목록을 limit 개로 자른 사본 (캐시된 요약은 그대로 둠)
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> trim(Map<String, Object> summary, int limit) {
+        Map<String, Object> trimmed = new LinkedHashMap<>();
+        summary.forEach((name, value) -> {
+            if (value instanceof Map<?, ?> section) {
+                trimmed.put(name, trim((Map<String, Object>) section, limit));
+            } else if (value instanceof List<?> rows && rows.size() > limit) {
+                trimmed.put(name, new ArrayList<>(rows.subList(0, limit)));
+            } else {
+                trimmed.put(name, value);
+            }
+        });
+        return trimmed;
+    }
+
+    private static void add(Map<String, long[]> totals, String key, long count, long amount) {
+        long[] value = totals.computeIfAbsent(key, k -> new long[2]);
+        value[0] += count;
+        value[1] += amount;
+    }
+
+    private static List<Map<String, Object>> top(Map<String, long[]> totals, int limit,
+                                                 Comparator<Map.Entry<String, long[]>> order,
+                                                 BiFunction<String, long[], Map<String, Object>> mapper) {
+        return totals.entrySet().stream()
+                .sorted(order.reversed())
+                .limit(limit)
+                .map(entry -> mapper.apply(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    private static String topFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "(스택 없음)";
+        }
+        RecordedFrame frame = stackTrace.getFrames().get(0);
+        String location = frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : "";
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + location;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        for (Entry entry : recordings.values()) {
+            if (entry.recording != null) {
+                entry.recording.close();
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final long id;
+        private final String profile;
+        private final long durationSeconds;
+        private final LocalDateTime startTime = LocalDateTime.now();
+        private final Path file;
+
+        private Recording recording;
+        private String state = RUNNING;
+        private String error;
+        private Map<String, Object> summary;
+        private int summaryLimit;
+
+        Entry(long id, String profile, long durationSeconds, Path file) {
+            this.id = id;
+            this.profile = profile;
+            this.durationSeconds = durationSeconds;
+            this.file = file;
+        }
+
+        JfrRecordingDto toDto() {
+            Long fileSize = null;
+            if (COMPLETED.equals(state)) {
+                try {
+                    fileSize = Files.size(file);
+                } catch (IOException e) {
+                    // 보관 기간이 지나 삭제됨
+                }
+            }
+            return JfrRecordingDto.builder()
+                    .id(id)
+                    .profile(profile)
+                    .durationSeconds(durationSeconds)
+                    .startTime(startTime)
+                    .state(state)
+                    .fileName(file.getFileName().toString())
+                    .fileSize(fileSize)
+                    .error(error)
+                    .build();
+        }
+    }
+}
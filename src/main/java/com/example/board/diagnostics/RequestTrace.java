@@ -0,0 +1,115 @@
+package com.example.board.diagnostics;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 하나의 성능 기록 (요청 스레드에서만 수정)
+ * 요청을 처리하는 동안 현재 스레드에 연결되어 있으며, SQL/파일 입출력 측정 지점에서 static 메소드로 누적한다.
+ * 연결된 요청이 없으면(백그라운드 작업 등) 아무것도 하지 않는다.
+ */
+public final class RequestTrace {
+
+    // 요청당 SQL 원문을 보관하는 최대 개수 (넘으면 횟수/시간만 누적)
+    static final int MAX_STATEMENTS = 100;
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final String method;
+    private final String uri;
+    private final LocalDateTime startTime = LocalDateTime.now();
+    private final long startNanos = System.nanoTime();
+
+    private int sqlCount;
+    private long sqlNanos;
+    private final List<SqlStatement> statements = new ArrayList<>();
+    private long fileBytesRead;
+    private long fileBytesWritten;
+
+    RequestTrace(String method, String uri) {
+        this.method = method;
+        this.uri = uri;
+    }
+
+    static void attach(RequestTrace trace) {
+        CURRENT.set(trace);
+    }
+
+    static void detach() {
+        CURRENT.remove();
+    }
+
+    /**
+     * SQL 실행 기록
+     */
+    public static void sqlExecuted(String sql, long nanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.sqlCount++;
+            trace.sqlNanos += nanos;
+            if (trace.statements.size() < MAX_STATEMENTS) {
+                trace.statements.add(new SqlStatement(sql, nanos));
+            }
+        }
+    }
+
+    /**
+     * 저장소에서 읽은(응답으로 내보낼) 파일 크기 기록
+     */
+    public static void fileRead(long bytes) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null && bytes > 0) {
+            trace.fileBytesRead += bytes;
+        }
+    }
+
+    /**
+     * 저장소에 쓴 파일 크기 기록
+     */
+    public static void fileWritten(long bytes) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null && bytes > 0) {
+            trace.fileBytesWritten += bytes;
+        }
+    }
+
+    String getMethod() {
+        return method;
+    }
+
+    String getUri() {
+        return uri;
+    }
+
+    LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    int getSqlCount() {
+        return sqlCount;
+    }
+
+    long getSqlNanos() {
+        return sqlNanos;
+    }
+
+    List<SqlStatement> getStatements() {
+        return statements;
+    }
+
+    long getFileBytesRead() {
+        return fileBytesRead;
+    }
+
+    long getFileBytesWritten() {
+        return fileBytesWritten;
+    }
+
+    record SqlStatement(String sql, long nanos) {
+    }
+}
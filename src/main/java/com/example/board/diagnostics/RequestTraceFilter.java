@@ -0,0 +1,145 @@
+package com.example.board.diagnostics;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+/**
+ * 요청마다 RequestTrace 를 만들어 현재 스레드에 연결하고, 끝나면 응답 크기/상태와 함께 RequestTraceStore 에 기록
+ * 비동기 응답(ZIP 스트리밍 등)은 완료 시점까지의 시간을 기록한다 (비동기 스레드의 SQL/파일 입출력은 제외).
+ */
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+    private final RequestTraceStore store;
+
+    public RequestTraceFilter(RequestTraceStore store) {
+        this.store = store;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTrace trace = new RequestTrace(request.getMethod(), request.getRequestURI());
+        CountingResponse countingResponse = new CountingResponse(response);
+
+        RequestTrace.attach(trace);
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } finally {
+            RequestTrace.detach();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        store.record(trace, countingResponse.getStatus(), countingResponse.bytes);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                store.record(trace, countingResponse.getStatus(), countingResponse.bytes);
+            }
+        }
+    }
+
+    /**
+     * 응답 본문 크기 측정 (getWriter 로 쓴 경우는 문자 수로 셈)
+     */
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+
+        private volatile long bytes;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream target = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        target.write(b);
+                        bytes++;
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        target.write(b, off, len);
+                        bytes += len;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        target.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        target.close();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return target.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        target.setWriteListener(writeListener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                Writer target = super.getWriter();
+                writer = new PrintWriter(new Writer() {
+                    @Override
+                    public void write(char[] cbuf, int off, int len) throws IOException {
+                        target.write(cbuf, off, len);
+                        bytes += len;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        target.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        target.close();
+                    }
+                });
+            }
+            return writer;
+        }
+    }
+}
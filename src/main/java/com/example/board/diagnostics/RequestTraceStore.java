@@ -0,0 +1,149 @@
+package com.example.board.diagnostics;
+
+import com.example.board.dto.RequestTraceDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 성능 기록 보관 (메모리)
+ * - 가장 느린 요청 slowest-size 개 (최소 힙, 힙의 최솟값보다 빠른 요청은 잠금 없이 건너뜀)
+ * - 최근 요청 표본 recent-size 개 (sample-rate 비율로 골라 고정 크기 배열에 순환 저장)
+ * - slow-threshold-ms 를 넘는 요청은 SQL 요약과 함께 경고 로그로 남김
+ */
+@Component
+public class RequestTraceStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestTraceStore.class);
+
+    // 요청 하나에 보관하는 느린 SQL 수
+    private static final int STATEMENTS_PER_REQUEST = 10;
+
+    private static final Comparator<RequestTraceDto> BY_WALL_TIME = Comparator.comparingDouble(RequestTraceDto::getWallMillis);
+
+    private final int slowestSize;
+    private final double sampleRate;
+    private final double slowThresholdMillis;
+
+    // slowest 자체를 잠금으로 사용
+    private final PriorityQueue<RequestTraceDto> slowest;
+    private volatile double slowestFloor;
+
+    private final AtomicReferenceArray<RequestTraceDto> recent;
+    private final AtomicLong recentSequence = new AtomicLong();
+
+    public RequestTraceStore(@Value("${diagnostics.requests.slowest-size:50}") int slowestSize,
+                             @Value("${diagnostics.requests.recent-size:200}") int recentSize,
+                             @Value("${diagnostics.requests.sample-rate:0.1}") double sampleRate,
+                             @Value("${diagnostics.requests.slow-threshold-ms:1000}") long slowThresholdMillis) {
+        this.slowestSize = Math.max(1, slowestSize);
+        this.sampleRate = sampleRate;
+        this.slowThresholdMillis = slowThresholdMillis;
+        this.slowest = new PriorityQueue<>(this.slowestSize + 1, BY_WALL_TIME);
+        this.recent = new AtomicReferenceArray<>(Math.max(1, recentSize));
+    }
+
+    /**
+     * 끝난 요청 기록
+     */
+    void record(RequestTrace trace, int status, long responseBytes) {
+        RequestTraceDto dto = toDto(trace, status, responseBytes);
+
+        if (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            recent.set((int) (recentSequence.getAndIncrement() % recent.length()), dto);
+        }
+
+        if (dto.getWallMillis() > slowestFloor) {
+            synchronized (slowest) {
+                slowest.add(dto);
+                if (slowest.size() > slowestSize) {
+                    slowest.poll();
+                }
+                if (slowest.size() == slowestSize) {
+                    slowestFloor = slowest.peek().getWallMillis();
+                }
+            }
+        }
+
+        if (dto.getWallMillis() >= slowThresholdMillis) {
+            logger.warn("느린 요청: {} {} {}ms (status {}, SQL {}회 {}ms, 파일 읽기 {}B 쓰기 {}B, 응답 {}B) 가장 느린 SQL: {}",
+                    dto.getMethod(), dto.getUri(), Math.round(dto.getWallMillis()), dto.getStatus(),
+                    dto.getSqlCount(), Math.round(dto.getSqlMillis()),
+                    dto.getFileBytesRead(), dto.getFileBytesWritten(), dto.getResponseBytes(),
+                    dto.getSlowestStatements().isEmpty() ? "-" : dto.getSlowestStatements().get(0).getSql());
+        }
+    }
+
+    /**
+     * 가장 느린 요청 (느린 순)
+     */
+    public List<RequestTraceDto> getSlowest() {
+        List<RequestTraceDto> traces;
+        synchronized (slowest) {
+            traces = new ArrayList<>(slowest);
+        }
+        traces.sort(BY_WALL_TIME.reversed());
+        return traces;
+    }
+
+    /**
+     * 최근 요청 표본 (최신 순)
+     */
+    public List<RequestTraceDto> getRecent() {
+        List<RequestTraceDto> traces = new ArrayList<>(recent.length());
+        for (int i = 0; i < recent.length(); i++) {
+            RequestTraceDto trace = recent.get(i);
+            if (trace != null) {
+                traces.add(trace);
+            }
+        }
+        traces.sort(Comparator.comparing(RequestTraceDto::getStartTime).reversed());
+        return traces;
+    }
+
+    public void clear() {
+        synchronized (slowest) {
+            slowest.clear();
+            slowestFloor = 0;
+        }
+        for (int i = 0; i < recent.length(); i++) {
+            recent.set(i, null);
+        }
+    }
+
+    private static RequestTraceDto toDto(RequestTrace trace, int status, long responseBytes) {
+        List<RequestTraceDto.SqlStatement> statements = trace.getStatements().stream()
+                .sorted(Comparator.comparingLong(RequestTrace.SqlStatement::nanos).reversed())
+                .limit(STATEMENTS_PER_REQUEST)
+                .map(statement -> new RequestTraceDto.SqlStatement(statement.sql(), toMillis(statement.nanos())))
+                .collect(Collectors.toList());
+
+        return RequestTraceDto.builder()
+                .method(trace.getMethod())
+                .uri(trace.getUri())
+                .status(status)
+                .startTime(trace.getStartTime())
+                .wallMillis(toMillis(trace.elapsedNanos()))
+                .sqlCount(trace.getSqlCount())
+                .sqlMillis(toMillis(trace.getSqlNanos()))
+                .slowestStatements(statements)
+                .fileBytesRead(trace.getFileBytesRead())
+                .fileBytesWritten(trace.getFileBytesWritten())
+                .responseBytes(responseBytes)
+                .build();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
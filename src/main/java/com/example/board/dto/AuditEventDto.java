@@ -0,0 +1,35 @@
+package com.example.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 감사 이벤트 (저널 파일의 한 줄, 매니저 조회 응답)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditEventDto {
+
+    // 저널에 기록된 순번 (파일에 쓰인 순서로 증가, 페이지 커서로 사용 - 같은 시각의 이벤트도 구분됨)
+    private Long seq;
+
+    private LocalDateTime timestamp;
+
+    // 수행한 사용자 (익명/시스템이면 null)
+    private Long actorId;
+    private String actor;
+
+    // 예: POST_CREATE, USER_ROLE_CHANGE
+    private String action;
+    private String targetType;
+    private String targetId;
+
+    private Map<String, Object> detail;
+}
@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -16,6 +18,11 @@ public class BoardCategoryDto {
     private String name;
     private String description;
 
+    // 게시판 통계 (목록 조회 시 메모리 값으로 채움)
+    private Long postCount;
+    private Long commentCount;
+    private LocalDateTime lastPostDate;
+
     public static BoardCategoryDto fromEntity(BoardCategory category) {
         return BoardCategoryDto.builder()
                 .id(category.getId())
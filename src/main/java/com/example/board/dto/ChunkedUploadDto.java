@@ -0,0 +1,15 @@
+package com.example.board.dto;
+
+import lombok.Data;
+
+public class ChunkedUploadDto {
+
+    // 청크 업로드 세션 생성 요청
+    @Data
+    public static class CreateSessionRequest {
+        private String fileName;
+        private String contentType;
+        private long totalSize;
+        private Integer chunkSize;  // null이면 서버 기본값 사용
+    }
+}
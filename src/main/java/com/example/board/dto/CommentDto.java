@@ -1,6 +1,7 @@
 package com.example.board.dto;
 
 import com.example.board.entity.Comment;
+import com.example.board.entity.User;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -54,12 +55,21 @@ public class CommentDto {
 
     // Entity -> DTO 변환 (자식 댓글 제외 - 단순 버전)
     public static CommentDto fromEntitySimple(Comment comment) {
+        User user = comment.getUser();
+        return fromEntitySimple(comment,
+                user != null ? user.getId() : null,
+                user != null ? user.getUsername() : "unknown",
+                user != null ? user.getNickname() : "탈퇴한 사용자");
+    }
+
+    // Entity -> DTO 변환 (작성자 정보를 이미 알고 있을 때 - User 엔티티를 로딩하지 않음)
+    public static CommentDto fromEntitySimple(Comment comment, Long userId, String username, String userNickname) {
         return CommentDto.builder()
                 .id(comment.getId())
                 .content(comment.isDeleted() ? "삭제된 댓글입니다." : comment.getContent())
-                .userId(comment.getUser() != null ? comment.getUser().getId() : null)
-                .userNickname(comment.getUser() != null ? comment.getUser().getNickname() : "탈퇴한 사용자")
-                .username(comment.getUser() != null ? comment.getUser().getUsername() : "unknown")
+                .userId(userId)
+                .userNickname(userNickname)
+                .username(username)
                 .postId(comment.getPost() != null ? comment.getPost().getId() : null)
                 .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
                 .deleted(comment.isDeleted())
@@ -0,0 +1,30 @@
+package com.example.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JFR 기록 상태 (매니저 진단 화면용)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JfrRecordingDto {
+
+    private Long id;
+    // JFR 설정 이름 (default: 상시 기록용, profile: 샘플링/락 경합 임계값이 더 촘촘함)
+    private String profile;
+    private long durationSeconds;
+    private LocalDateTime startTime;
+
+    // RUNNING, COMPLETED, FAILED
+    private String state;
+    private String fileName;
+    private Long fileSize;
+    private String error;
+}
@@ -3,6 +3,7 @@ package com.example.board.dto;
 
 import com.example.board.entity.Post;
 import com.example.board.entity.PostAttachment;
+import com.example.board.entity.User;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -38,10 +39,19 @@ public class PostDto {
 
     // Entity -> DTO 변환 메서드
     public static PostDto fromEntity(Post post) {
+        User user = post.getUser();
+        return fromEntity(post,
+                user != null ? user.getId() : null,
+                user != null ? user.getUsername() : null,
+                user != null ? user.getNickname() : null);
+    }
+
+    // Entity -> DTO 변환 (작성자 정보를 이미 알고 있을 때 - User 엔티티를 로딩하지 않음)
+    public static PostDto fromEntity(Post post, Long userId, String username, String userNickname) {
         // 작성자 표시: 사용자가 있으면 닉네임, 없으면 기존 author 필드 사용
         String displayAuthor = post.getAuthor();
-        if (post.getUser() != null && post.getUser().getNickname() != null) {
-            displayAuthor = post.getUser().getNickname();
+        if (userNickname != null) {
+            displayAuthor = userNickname;
         }
 
         // 첨부파일 변환
@@ -54,9 +64,9 @@ public class PostDto {
                 .title(post.getTitle())
                 .content(post.getContent())
                 .author(displayAuthor)  // 닉네임 또는 기존 author
-                .userId(post.getUser() != null ? post.getUser().getId() : null)
-                .username(post.getUser() != null ? post.getUser().getUsername() : null)
-                .userNickname(post.getUser() != null ? post.getUser().getNickname() : null)
+                .userId(userId)
+                .username(username)
+                .userNickname(userNickname)
                 .categoryId(post.getCategory() != null ? post.getCategory().getId() : null)
                 .categoryName(post.getCategory() != null ? post.getCategory().getName() : null)
                 .createdDate(post.getCreatedDate())
@@ -0,0 +1,42 @@
+package com.example.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 요청 성능 기록 (매니저 진단 화면용)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestTraceDto {
+
+    private String method;
+    private String uri;
+    private int status;
+    private LocalDateTime startTime;
+    private double wallMillis;
+
+    private int sqlCount;
+    private double sqlMillis;
+    // 오래 걸린 순 SQL (요청당 일부만)
+    private List<SqlStatement> slowestStatements;
+
+    private long fileBytesRead;
+    private long fileBytesWritten;
+    private long responseBytes;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SqlStatement {
+        private String sql;
+        private double millis;
+    }
+}
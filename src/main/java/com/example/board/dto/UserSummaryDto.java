@@ -0,0 +1,46 @@
+package com.example.board.dto;
+
+import com.example.board.entity.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 목록용 요약 정보 (관리 게시판 등 연관 데이터 없이 한 행에서 바로 조회)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryDto {
+
+    private Long id;
+    private String username;
+    private String nickname;
+    private String name;
+    private String email;
+    private UserRole role;
+    private boolean enabled;
+    private boolean locked;
+    private int warningCount;
+    private LocalDateTime createdDate;
+
+    // 목록 필터 (모든 조건은 선택)
+    @Data
+    public static class Filter {
+        private UserRole role;
+        private Boolean locked;
+        private Boolean enabled;
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        private LocalDateTime createdFrom;
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        private LocalDateTime createdTo;
+
+        private Integer minWarningCount;
+        private Integer maxWarningCount;
+    }
+}
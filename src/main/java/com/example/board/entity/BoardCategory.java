@@ -5,9 +5,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "board_categories")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "board-category")
 @Data
 @Builder
 @NoArgsConstructor
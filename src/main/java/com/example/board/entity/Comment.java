@@ -26,7 +26,7 @@ public class Comment {
     private String content;
 
     // 작성자 정보
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -0,0 +1,34 @@
+package com.example.board.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 완료된 데이터 마이그레이션 기록 (기록이 있으면 다시 실행하지 않음)
+ */
+@Entity
+@Table(name = "data_migrations")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DataMigration {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+
+    @Column(name = "duration_millis", nullable = false)
+    private long durationMillis;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
@@ -6,6 +6,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -13,6 +16,17 @@ import java.util.List;
 
 @Entity
 @Table(name = "posts")
+// 목록: 작성자 + 카테고리 (첨부파일은 @BatchSize 로 묶어서 조회)
+@NamedEntityGraph(name = "Post.list", attributeNodes = {
+        @NamedAttributeNode("user"),
+        @NamedAttributeNode("category")
+})
+// 상세: 작성자 + 카테고리 + 첨부파일을 한 번에 조회
+@NamedEntityGraph(name = "Post.detail", attributeNodes = {
+        @NamedAttributeNode("user"),
+        @NamedAttributeNode("category"),
+        @NamedAttributeNode("attachments")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -33,16 +47,19 @@ public class Post {
     private String author;
 
     // 실제 작성자 사용자 참조 추가
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     private BoardCategory category;
 
     // 첨부파일 목록 (Entity로 정의하고 연결)
+    // 첨부파일 id 목록은 2차 캐시 사용 (첨부파일 엔티티는 post-attachment 영역)
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "post-attachments")
     private List<PostAttachment> attachments = new ArrayList<>();
 
     @Column(name = "created_date")
@@ -6,11 +6,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "post_attachments")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "post-attachment")
 @Data
 @Builder
 @NoArgsConstructor
@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_expiry_date", columnList = "expiry_date")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -20,14 +22,20 @@ public class RefreshToken {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    // 토큰 원문은 저장하지 않고 SHA-256 해시만 보관
+    // (기존 행은 시작 시 마이그레이션으로 채워지므로 nullable)
+    @Column(name = "token_hash", unique = true, length = 64)
+    private String tokenHash;
+
+    // 새로 발급한 토큰 원문 (응답에만 사용, DB 에 저장되지 않음)
+    @Transient
     private String token;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(nullable = false)
+    @Column(name = "expiry_date", nullable = false)
     private LocalDateTime expiryDate;
 
     @Column(name = "created_date")
@@ -36,6 +44,10 @@ public class RefreshToken {
     @Column(name = "is_revoked")
     private boolean isRevoked = false;
 
+    // 교체(rotate)로 폐기된 시각 (직후의 동시 갱신 요청을 탈취와 구분하기 위함)
+    @Column(name = "rotated_date")
+    private LocalDateTime rotatedDate;
+
     @PrePersist
     protected void onCreate() {
         createdDate = LocalDateTime.now();
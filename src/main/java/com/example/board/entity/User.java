@@ -5,7 +5,14 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -13,6 +20,10 @@ import java.util.Set;
 
 @Entity
 @Table(name = "users")
+@NamedEntityGraph(name = "User.withManagedCategories", attributeNodes = @NamedAttributeNode("managedCategories"))
+// 2차 캐시: id 로 조회하는 사용자와 username -> id 매핑 (설정은 ehcache.xml)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-by-username")
 @Data
 @Builder
 @NoArgsConstructor
@@ -23,6 +34,7 @@ public class User {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String username;
 
@@ -58,12 +70,18 @@ public class User {
     @Column(nullable = false, length = 50)
     private UserRole role;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    // 필요한 곳에서만 로딩 (목록은 User.withManagedCategories 그래프 또는 @BatchSize 로 묶어서 조회)
+    // equals/hashCode/toString 이 지연 로딩을 일으키지 않도록 제외
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "user_managed_categories",
             joinColumns = @JoinColumn(name = "user_id"),
             inverseJoinColumns = @JoinColumn(name = "category_id")
     )
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-managed-categories")
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Set<BoardCategory> managedCategories = new HashSet<>();
 
     private boolean enabled = true;
@@ -72,6 +90,10 @@ public class User {
 
     private int warningCount = 0;
 
+    // 이 시각 이전에 발급된 Access Token 은 무효 (잠금, 권한 변경 시 갱신)
+    @Column(name = "tokens_valid_after")
+    private LocalDateTime tokensValidAfter;
+
     @Column(name = "created_date")
     private LocalDateTime createdDate;
 
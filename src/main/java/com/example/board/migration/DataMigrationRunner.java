@@ -0,0 +1,127 @@
+package com.example.board.migration;
+
+import com.example.board.entity.DataMigration;
+import com.example.board.repository.DataMigrationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 아직 실행되지 않은 데이터 마이그레이션 실행
+ * 완료된 마이그레이션은 data_migrations 에 기록되므로 이후 시작 시에는 조회 한 번으로 끝난다.
+ * 차단 마이그레이션은 시작 중에, 나머지는 준비 후 백그라운드 스레드에서 묶음 단위 트랜잭션으로 실행한다.
+ */
+@Component
+public class DataMigrationRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataMigrationRunner.class);
+
+    private final List<DataMigrationStep> steps;
+    private final DataMigrationRepository dataMigrationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private volatile boolean finished;
+    // 실패한 백그라운드 마이그레이션 이름과 오류 (성공하면 null)
+    private volatile String failedStep;
+    private volatile String failure;
+
+    @Autowired
+    public DataMigrationRunner(List<DataMigrationStep> steps,
+                               DataMigrationRepository dataMigrationRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${data-migration.batch-size:500}") int batchSize) {
+        this.steps = steps;
+        this.dataMigrationRepository = dataMigrationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        runPending(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackground() {
+        Thread thread = new Thread(() -> finished = runPending(false), "data-migration");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 백그라운드 마이그레이션까지 모두 성공했는지 여부 (실패하면 false 로 남음)
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public String getFailedStep() {
+        return failedStep;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    // 모두 성공하면 true
+    private boolean runPending(boolean blocking) {
+        Set<String> completed = dataMigrationRepository.findAll().stream()
+                .map(DataMigration::getName)
+                .collect(Collectors.toSet());
+
+        for (DataMigrationStep step : steps) {
+            if (step.isBlocking() != blocking || completed.contains(step.getName())) {
+                continue;
+            }
+            try {
+                execute(step);
+            } catch (RuntimeException e) {
+                // 뒤의 마이그레이션이 앞의 결과에 의존할 수 있으므로 중단 (다음 시작 시 이어서 실행)
+                logger.error("데이터 마이그레이션 실패: {} - {}", step.getName(), e.getMessage(), e);
+                if (blocking) {
+                    throw e;
+                }
+                failedStep = step.getName();
+                failure = e.getMessage();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void execute(DataMigrationStep step) {
+        long start = System.nanoTime();
+        long processed = 0;
+        int count;
+        do {
+            Integer result = transactionTemplate.execute(status -> step.migrateBatch(batchSize));
+            count = result != null ? result : 0;
+            processed += count;
+        } while (count >= batchSize);
+        step.finish();
+
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        dataMigrationRepository.save(DataMigration.builder()
+                .name(step.getName())
+                .processedCount(processed)
+                .durationMillis(durationMillis)
+                .completedAt(LocalDateTime.now())
+                .build());
+        logger.info("데이터 마이그레이션 완료: {} ({}건, {}ms)", step.getName(), processed, durationMillis);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.board.migration;
+
+/**
+ * 한 번만 실행되는 데이터 마이그레이션 (@Order 순서로 실행)
+ * 중간에 중단되어도 다시 실행할 수 있도록 이미 처리된 데이터는 건너뛰게 작성한다.
+ */
+public interface DataMigrationStep {
+
+    /**
+     * data_migrations 에 기록되는 고유 이름 (한 번 배포한 뒤에는 바꾸지 않음)
+     */
+    String getName();
+
+    /**
+     * true 면 애플리케이션 준비 전에 동기로 실행, false 면 준비 후 백그라운드에서 실행
+     */
+    default boolean isBlocking() {
+        return false;
+    }
+
+    /**
+     * 최대 batchSize 건을 처리하고 처리 건수 반환 (batchSize 보다 적으면 끝, 트랜잭션 하나로 실행)
+     */
+    int migrateBatch(int batchSize);
+
+    /**
+     * 모든 묶음 처리 후 한 번 실행 (트랜잭션 밖, DDL 등)
+     */
+    default void finish() {
+    }
+}
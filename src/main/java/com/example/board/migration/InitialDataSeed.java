@@ -0,0 +1,85 @@
+package com.example.board.migration;
+
+import com.example.board.entity.User;
+import com.example.board.entity.UserRole;
+import com.example.board.repository.UserRepository;
+import com.example.board.service.BoardCategoryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기본 카테고리와 매니저/관리자 계정 생성 (최초 시작 시 한 번, 시작 중에 실행)
+ */
+@Component
+@Order(0)
+public class InitialDataSeed implements DataMigrationStep {
+
+    private static final Logger logger = LoggerFactory.getLogger(InitialDataSeed.class);
+
+    private final BoardCategoryService boardCategoryService;
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    @Autowired
+    public InitialDataSeed(BoardCategoryService boardCategoryService,
+                           UserRepository userRepository,
+                           PasswordEncoder passwordEncoder) {
+        this.boardCategoryService = boardCategoryService;
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    @Override
+    public String getName() {
+        return "initial-seed";
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return true;
+    }
+
+    @Override
+    public int migrateBatch(int batchSize) {
+        // 기본 카테고리 초기화 (카테고리가 하나도 없을 때만)
+        boardCategoryService.initDefaultCategories();
+
+        int created = 0;
+        // 매니저 계정이 없으면 자동 생성
+        if (createAccountIfMissing("manager", "manager123", "manager@board.com", "시스템 매니저", "매니저",
+                UserRole.ROLE_MANAGER)) {
+            created++;
+        }
+        // 관리자 계정이 없으면 자동 생성
+        if (createAccountIfMissing("admin", "admin123", "admin@board.com", "시스템 관리자", "관리자",
+                UserRole.ROLE_ADMIN)) {
+            created++;
+        }
+        return created;
+    }
+
+    private boolean createAccountIfMissing(String username, String password, String email, String name,
+                                           String nickname, UserRole role) {
+        if (userRepository.existsByUsername(username)) {
+            return false;
+        }
+        userRepository.save(User.builder()
+                .username(username)
+                .password(passwordEncoder.encode(password))
+                .email(email)
+                .name(name)
+                .nickname(nickname)
+                .role(role)
+                .enabled(true)
+                .locked(false)
+                .warningCount(0)
+                .build());
+        logger.warn("기본 계정 생성: 아이디 {} / 비밀번호 {} / 닉네임 {} / 권한 {} (비밀번호를 변경하세요)",
+                username, password, nickname, role);
+        return true;
+    }
+}
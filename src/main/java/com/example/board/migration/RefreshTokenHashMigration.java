@@ -0,0 +1,91 @@
+package com.example.board.migration;
+
+import com.example.board.util.HashUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * refresh_tokens 의 기존 원문 token 컬럼을 token_hash 로 옮기고 원문 컬럼 삭제
+ * (ddl-auto=update 는 컬럼을 지우지 않으므로, 남아 있으면 NOT NULL 제약 때문에 새 토큰 저장이 실패한다)
+ * 기존 로그인 세션은 해시로 옮겨져 그대로 유지된다
+ */
+@Component
+@Order(10)
+public class RefreshTokenHashMigration implements DataMigrationStep {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenHashMigration.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+
+    @Autowired
+    public RefreshTokenHashMigration(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public String getName() {
+        return "refresh-token-hash";
+    }
+
+    // 원문 컬럼이 남아 있는 동안 새 토큰 저장(로그인)이 실패하므로 준비 전에 끝내야 함
+    @Override
+    public boolean isBlocking() {
+        return true;
+    }
+
+    @Override
+    public int migrateBatch(int batchSize) {
+        if (!legacyColumnExists()) {
+            return 0;
+        }
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, token FROM refresh_tokens WHERE token_hash IS NULL AND token IS NOT NULL LIMIT " + batchSize);
+        List<Object[]> updates = rows.stream()
+                .map(row -> new Object[]{HashUtils.sha256Hex((String) row.get("token")), row.get("id")})
+                .toList();
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE refresh_tokens SET token_hash = ? WHERE id = ?", updates);
+        }
+        return updates.size();
+    }
+
+    @Override
+    public void finish() {
+        if (legacyColumnExists()) {
+            jdbcTemplate.execute("ALTER TABLE refresh_tokens DROP COLUMN token");
+            logger.info("refresh_tokens.token 컬럼 제거 완료");
+        }
+    }
+
+    private boolean legacyColumnExists() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String table : new String[]{"refresh_tokens", "REFRESH_TOKENS"}) {
+                for (String column : new String[]{"token", "TOKEN"}) {
+                    try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, table, column)) {
+                        if (columns.next()) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        } catch (SQLException e) {
+            throw new IllegalStateException("refresh_tokens 컬럼 정보를 읽을 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.board.migration;
+
+import com.example.board.entity.User;
+import com.example.board.repository.UserRepository;
+import com.example.board.service.NicknameRegistry;
+import com.example.board.service.UserSearchIndex;
+import com.example.board.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 닉네임이 없는 기존 사용자에게 이름(없으면 사용자명) 기반 닉네임 설정
+ */
+@Component
+@Order(20)
+public class UserNicknameBackfill implements DataMigrationStep {
+
+    private final UserRepository userRepository;
+    private final NicknameRegistry nicknameRegistry;
+    private final UserSearchIndex userSearchIndex;
+
+    @Autowired
+    public UserNicknameBackfill(UserRepository userRepository,
+                                NicknameRegistry nicknameRegistry,
+                                UserSearchIndex userSearchIndex) {
+        this.userRepository = userRepository;
+        this.nicknameRegistry = nicknameRegistry;
+        this.userSearchIndex = userSearchIndex;
+    }
+
+    @Override
+    public String getName() {
+        return "user-nickname-backfill";
+    }
+
+    @Override
+    public int migrateBatch(int batchSize) {
+        // 처리한 사용자는 조건에서 빠지므로 항상 첫 페이지를 읽는다
+        List<User> users = userRepository.findWithoutNickname(PageRequest.of(0, batchSize));
+        for (User user : users) {
+            String base = user.getName() != null && !user.getName().trim().isEmpty()
+                    ? user.getName() : user.getUsername();
+            // 같은 묶음에서 앞서 정한 닉네임은 조회 전 flush 되므로 중복되지 않음
+            user.setNickname(nicknameRegistry.allocate(base));
+            nicknameRegistry.registered(user.getNickname());
+            TransactionUtils.afterCommit(() -> userSearchIndex.put(user.getId(), user.getUsername(),
+                    user.getNickname(), user.getName(), user.getEmail()));
+        }
+        return users.size();
+    }
+}
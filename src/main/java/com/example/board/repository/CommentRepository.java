@@ -2,12 +2,15 @@ package com.example.board.repository;
 
 import com.example.board.entity.Comment;
 import com.example.board.entity.Post;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -25,9 +28,32 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.post = :post AND c.deleted = false")
     long countByPostAndDeletedFalse(@Param("post") Post post);
 
+    // 댓글 삭제용 (게시판 통계 갱신에 게시글의 게시판 id 가 필요)
+    @EntityGraph(attributePaths = "post")
+    Optional<Comment> findWithPostById(Long id);
+
+    // 게시판별 삭제되지 않은 댓글 수 (게시판 통계 초기화용)
+    @Query("SELECT p.category.id, COUNT(c) FROM Comment c JOIN c.post p WHERE c.deleted = false AND p.category IS NOT NULL " +
+            "GROUP BY p.category.id")
+    List<Object[]> countActiveCommentsByCategory();
+
+    // 댓글 트리용: 게시글의 삭제되지 않은 댓글 전체를 작성자와 함께 한 번에 조회 (트리는 메모리에서 구성)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.post.id = :postId AND c.deleted = false " +
+            "ORDER BY c.createdDate ASC, c.id ASC")
+    List<Comment> findTreeByPostId(@Param("postId") Long postId);
+
     // 특정 게시글과 그 모든 댓글들을 계층적으로 조회
     @Query("SELECT c FROM Comment c WHERE c.post = :post AND c.deleted = false ORDER BY " +
             "CASE WHEN c.parent IS NULL THEN c.id ELSE c.parent.id END, " +
             "c.parent.id ASC NULLS FIRST, c.createdDate ASC")
     List<Comment> findByPostOrderByHierarchy(@Param("post") Post post);
+
+    // 게시글 삭제용: 대댓글의 부모 참조를 먼저 끊고 (자기 참조 FK) 게시글의 댓글을 한 번에 삭제
+    @Modifying
+    @Query("UPDATE Comment c SET c.parent = null WHERE c.post.id = :postId AND c.parent IS NOT NULL")
+    int detachRepliesByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post.id = :postId")
+    int deleteAllByPostId(@Param("postId") Long postId);
 }
\ No newline at end of file
@@ -4,6 +4,9 @@ package com.example.board.repository;
 import com.example.board.entity.Post;
 import com.example.board.entity.PostAttachment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +15,9 @@ import java.util.List;
 public interface PostAttachmentRepository extends JpaRepository<PostAttachment, Long> {
     List<PostAttachment> findByPost(Post post);
     void deleteByPost(Post post);
+
+    // 게시글 삭제용 일괄 삭제 (첨부파일 수와 관계없이 한 문장)
+    @Modifying
+    @Query("DELETE FROM PostAttachment a WHERE a.post.id = :postId")
+    int deleteAllByPostId(@Param("postId") Long postId);
 }
\ No newline at end of file
@@ -2,13 +2,38 @@ package com.example.board.repository;
 
 import com.example.board.entity.BoardCategory;
 import com.example.board.entity.Post;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
+    @EntityGraph("Post.list")
     List<Post> findAllByOrderByCreatedDateDesc();
+
+    @EntityGraph("Post.list")
     List<Post> findByCategoryOrderByCreatedDateDesc(BoardCategory category);
+
+    // 게시글 상세 (작성자, 카테고리, 첨부파일 포함 한 번에 조회)
+    @EntityGraph("Post.detail")
+    Optional<Post> findDetailById(Long id);
+
+    // 게시판별 글 수와 마지막 글 작성 시각 (게시판 통계 초기화용)
+    @Query("SELECT p.category.id, COUNT(p), MAX(p.createdDate) FROM Post p WHERE p.category IS NOT NULL GROUP BY p.category.id")
+    List<Object[]> countPostsByCategory();
+
+    @Query("SELECT MAX(p.createdDate) FROM Post p WHERE p.category.id = :categoryId")
+    LocalDateTime findLatestCreatedDateByCategoryId(@Param("categoryId") Long categoryId);
+
+    // 첨부파일/댓글을 먼저 일괄 삭제한 뒤 사용 (cascade 로 한 건씩 지우지 않도록 영속성 컨텍스트를 거치지 않음)
+    @Modifying
+    @Query("DELETE FROM Post p WHERE p.id = :id")
+    int deletePostById(@Param("id") Long id);
 }
\ No newline at end of file
@@ -2,28 +2,37 @@ package com.example.board.repository;
 
 import com.example.board.entity.RefreshToken;
 import com.example.board.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByToken(String token);
-
-    Optional<RefreshToken> findByTokenAndIsRevokedFalse(String token);
+    // 폐기된 토큰도 조회 (재사용 감지용)
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 
     // 사용자의 모든 토큰 무효화
     @Modifying
     @Query("UPDATE RefreshToken rt SET rt.isRevoked = true WHERE rt.user = :user")
     void revokeAllTokensByUser(User user);
 
-    // 만료된 토큰 삭제
+    // 아직 폐기되지 않은 경우에만 폐기 (동시에 같은 토큰으로 갱신하면 한 요청만 성공)
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.isRevoked = true, rt.rotatedDate = :now WHERE rt.id = :id AND rt.isRevoked = false")
+    int revokeIfActive(Long id, LocalDateTime now);
+
+    // 만료된 토큰 id (배치 삭제용, 폐기된 토큰도 재사용 감지를 위해 만료될 때까지 보관)
+    @Query("SELECT rt.id FROM RefreshToken rt WHERE rt.expiryDate < :now")
+    List<Long> findExpiredIds(LocalDateTime now, Pageable pageable);
+
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiryDate < :now OR rt.isRevoked = true")
-    void deleteExpiredAndRevokedTokens(LocalDateTime now);
-}
\ No newline at end of file
+    @Query("DELETE FROM RefreshToken rt WHERE rt.id IN :ids")
+    int deleteByIdIn(List<Long> ids);
+}
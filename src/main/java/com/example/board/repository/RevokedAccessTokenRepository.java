@@ -0,0 +1,23 @@
+package com.example.board.repository;
+
+import com.example.board.entity.RevokedAccessToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, Long> {
+
+    boolean existsByTokenId(String tokenId);
+
+    List<RevokedAccessToken> findByExpiresAtAfter(LocalDateTime now);
+
+    // 만료된 항목 삭제
+    @Modifying
+    @Query("DELETE FROM RevokedAccessToken t WHERE t.expiresAt < :now")
+    int deleteExpired(LocalDateTime now);
+}
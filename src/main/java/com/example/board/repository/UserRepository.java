@@ -1,17 +1,66 @@
 package com.example.board.repository;
 
 import com.example.board.entity.User;
+import com.example.board.entity.UserRole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByUsername(String username);
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User>, UserRepositoryCustom {
     Optional<User> findByEmail(String email);
     Optional<User> findByNickname(String nickname);  // 닉네임으로 사용자 찾기
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
     boolean existsByNickname(String nickname);  // 닉네임 중복 체크
+
+    @EntityGraph("User.withManagedCategories")
+    List<User> findByRole(UserRole role);
+
+    // 전체 사용자 (관리 게시판 포함 한 번에 조회)
+    @EntityGraph("User.withManagedCategories")
+    @Query("SELECT u FROM User u ORDER BY u.id")
+    List<User> findAllWithManagedCategories();
+
+    // 역할별 사용자 수 (role, count)
+    @Query("SELECT u.role, COUNT(u) FROM User u GROUP BY u.role")
+    List<Object[]> countUsersByRole();
+
+    // 최근 가입자 5명 (LIMIT 과 컬렉션 fetch join 을 함께 쓰면 메모리에서 페이징하므로 관리 게시판은 @BatchSize 로 조회)
+    List<User> findTop5ByOrderByCreatedDateDesc();
+
+    // 검색 인덱스 생성용 (id 순으로 나눠 읽기)
+    @Query("SELECT u.id, u.username, u.nickname, u.name, u.email FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Object[]> findSearchFieldsAfter(Long afterId, Pageable pageable);
+
+    // 검색 인덱스가 준비되기 전 사용하는 DB 검색 (keyword 는 소문자, LIKE 특수문자 이스케이프 필요)
+    @Query("SELECT u FROM User u WHERE LOWER(u.username) LIKE CONCAT('%', :keyword, '%') ESCAPE '!' " +
+            "OR LOWER(u.nickname) LIKE CONCAT('%', :keyword, '%') ESCAPE '!' " +
+            "OR LOWER(u.name) LIKE CONCAT('%', :keyword, '%') ESCAPE '!' " +
+            "OR LOWER(u.email) LIKE CONCAT('%', :keyword, '%') ESCAPE '!'")
+    Page<User> searchByKeyword(String keyword, Pageable pageable);
+
+    // base 로 시작하는 닉네임 (prefix 는 LIKE 특수문자 이스케이프 필요, 닉네임 인덱스 범위 검색)
+    @Query("SELECT u.nickname FROM User u WHERE u.nickname LIKE CONCAT(:prefix, '%') ESCAPE '!'")
+    List<String> findNicknamesStartingWith(String prefix);
+
+    // 닉네임이 비어 있는 사용자 (닉네임 마이그레이션용)
+    @Query("SELECT u FROM User u WHERE u.nickname IS NULL OR u.nickname = '' ORDER BY u.id")
+    List<User> findWithoutNickname(Pageable pageable);
+
+    // 닉네임 필터 생성용 (id, nickname)
+    @Query("SELECT u.id, u.nickname FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Object[]> findNicknamesAfter(Long afterId, Pageable pageable);
+
+    // 토큰 무효화 기준 시각이 아직 유효한 사용자 (id, 기준 시각)
+    @Query("SELECT u.id, u.tokensValidAfter FROM User u WHERE u.tokensValidAfter > :since")
+    List<Object[]> findTokenCutoffsAfter(LocalDateTime since);
 }
\ No newline at end of file
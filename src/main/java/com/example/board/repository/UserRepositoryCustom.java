@@ -0,0 +1,18 @@
+package com.example.board.repository;
+
+import com.example.board.dto.UserSummaryDto;
+import com.example.board.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    // username(natural id) 으로 조회 - 2차 캐시의 username -> id 매핑과 사용자 캐시를 사용
+    Optional<User> findByUsername(String username);
+
+    // 조건에 맞는 사용자 요약 목록 (필요한 컬럼만 SELECT, 엔티티/연관관계 로딩 없음)
+    Page<UserSummaryDto> findSummaries(Specification<User> specification, Pageable pageable);
+}
@@ -0,0 +1,56 @@
+package com.example.board.repository;
+
+import com.example.board.dto.UserSummaryDto;
+import com.example.board.entity.User;
+import com.example.board.entity.UserRole;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 목록 조건 (값이 null 이면 조건 없음)
+ */
+public final class UserSpecifications {
+
+    private UserSpecifications() {
+    }
+
+    public static Specification<User> fromFilter(UserSummaryDto.Filter filter) {
+        return Specification.allOf(
+                hasRole(filter.getRole()),
+                isLocked(filter.getLocked()),
+                isEnabled(filter.getEnabled()),
+                createdFrom(filter.getCreatedFrom()),
+                createdTo(filter.getCreatedTo()),
+                minWarningCount(filter.getMinWarningCount()),
+                maxWarningCount(filter.getMaxWarningCount()));
+    }
+
+    public static Specification<User> hasRole(UserRole role) {
+        return (root, query, cb) -> role == null ? null : cb.equal(root.get("role"), role);
+    }
+
+    public static Specification<User> isLocked(Boolean locked) {
+        return (root, query, cb) -> locked == null ? null : cb.equal(root.get("locked"), locked);
+    }
+
+    public static Specification<User> isEnabled(Boolean enabled) {
+        return (root, query, cb) -> enabled == null ? null : cb.equal(root.get("enabled"), enabled);
+    }
+
+    public static Specification<User> createdFrom(LocalDateTime from) {
+        return (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("createdDate"), from);
+    }
+
+    public static Specification<User> createdTo(LocalDateTime to) {
+        return (root, query, cb) -> to == null ? null : cb.lessThan(root.get("createdDate"), to);
+    }
+
+    public static Specification<User> minWarningCount(Integer min) {
+        return (root, query, cb) -> min == null ? null : cb.greaterThanOrEqualTo(root.get("warningCount"), min);
+    }
+
+    public static Specification<User> maxWarningCount(Integer max) {
+        return (root, query, cb) -> max == null ? null : cb.lessThanOrEqualTo(root.get("warningCount"), max);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.board.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 서버 성능에 맞춘 BCrypt 인코더
+ * 시작 시 목표 시간에 맞는 cost 를 측정해서 새 해시에 사용하고, 검증은 해시에 기록된 cost 로 한다.
+ * 저장된 해시의 cost 가 현재 값보다 낮으면 upgradeEncoding 이 true 를 반환해 로그인 시 다시 해시된다.
+ * (더 높은 cost 는 그대로 둠 - 노드마다 측정값이 달라 낮추기/올리기를 반복하지 않도록)
+ */
+public class AdaptiveBCryptPasswordEncoder implements PasswordEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveBCryptPasswordEncoder.class);
+
+    // 측정 기준 cost (cost 가 1 오를 때마다 시간이 두 배)
+    private static final int PROBE_STRENGTH = 8;
+
+    private final int strength;
+    private final BCryptPasswordEncoder encoder;
+
+    public AdaptiveBCryptPasswordEncoder(int strength) {
+        this.strength = strength;
+        this.encoder = new BCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * 해시 한 번이 targetMillis 에 가장 가까운 cost 로 생성
+     */
+    public static AdaptiveBCryptPasswordEncoder calibrated(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(PROBE_STRENGTH);
+
+        // JIT 워밍업 후 여러 번 측정해서 가장 빠른 값 사용
+        probe.encode("calibration");
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration");
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        double probeMillis = Math.max(bestNanos / 1_000_000.0, 0.01);
+        int strength = PROBE_STRENGTH + (int) Math.round(Math.log(targetMillis / probeMillis) / Math.log(2));
+        strength = Math.max(minStrength, Math.min(maxStrength, strength));
+
+        logger.info("BCrypt cost 보정: {} (cost {} 측정값 {}ms, 목표 {}ms, 예상 {}ms)",
+                strength, PROBE_STRENGTH, String.format("%.2f", probeMillis), targetMillis,
+                Math.round(probeMillis * Math.pow(2, strength - PROBE_STRENGTH)));
+        return new AdaptiveBCryptPasswordEncoder(strength);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encoder.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        // BCrypt 검증은 해시 안의 cost 를 사용하므로 cost 가 섞여 있어도 됨
+        return encoder.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int storedStrength = strengthOf(encodedPassword);
+        return storedStrength != -1 && storedStrength < strength;
+    }
+
+    // "$2a$10$..." 형식에서 cost 추출 (형식이 다르면 -1)
+    private static int strengthOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$'
+                || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
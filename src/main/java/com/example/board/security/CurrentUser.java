@@ -0,0 +1,71 @@
+package com.example.board.security;
+
+import com.example.board.entity.UserRole;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.Principal;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * JWT 클레임으로 만든 로그인 사용자 정보 (요청마다 DB 조회 없이 사용)
+ * 토큰 유효시간 동안의 값이므로 닉네임 등은 최신 값과 잠시 다를 수 있다
+ */
+public final class CurrentUser implements Principal {
+
+    private final Long id;
+    private final String username;
+    private final String nickname;
+    private final UserRole role;
+    private final Set<Long> managedCategoryIds;
+
+    public CurrentUser(Long id, String username, String nickname, UserRole role, Set<Long> managedCategoryIds) {
+        this.id = id;
+        this.username = username;
+        this.nickname = nickname;
+        this.role = role;
+        this.managedCategoryIds = Set.copyOf(managedCategoryIds);
+    }
+
+    /**
+     * 현재 요청의 로그인 사용자 (익명이면 empty)
+     */
+    public static Optional<CurrentUser> get() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && auth.getPrincipal() instanceof CurrentUser currentUser) {
+            return Optional.of(currentUser);
+        }
+        return Optional.empty();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+
+    public Set<Long> getManagedCategoryIds() {
+        return managedCategoryIds;
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    @Override
+    public String toString() {
+        return username;
+    }
+}
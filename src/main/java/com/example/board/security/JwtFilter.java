@@ -1,5 +1,7 @@
 package com.example.board.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,14 +14,25 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 public class JwtFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtFilter.class);
     private final JwtTokenProvider tokenProvider;
 
-    public JwtFilter(JwtTokenProvider tokenProvider) {
+    // 토큰 검증 시간 (서명 확인 + 폐기 목록 확인, 결과별)
+    private final Timer validTokenTimer;
+    private final Timer invalidTokenTimer;
+
+    public JwtFilter(JwtTokenProvider tokenProvider, MeterRegistry meterRegistry) {
         this.tokenProvider = tokenProvider;
+        this.validTokenTimer = Timer.builder("auth.jwt.authenticate")
+                .tag("result", "valid")
+                .register(meterRegistry);
+        this.invalidTokenTimer = Timer.builder("auth.jwt.authenticate")
+                .tag("result", "invalid")
+                .register(meterRegistry);
     }
 
     @Override
@@ -38,23 +51,18 @@ public class JwtFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 토큰 확인 및 인증 처리
+        // 토큰 확인 및 인증 처리 (검증 + Authentication 생성을 한 번에)
         String jwt = resolveToken(request);
-        logger.debug("🔑 JWT 토큰 확인: {}", jwt != null ? "존재함" : "없음");
-
-        if (jwt != null) {
-            logger.debug("🔍 토큰 내용: {}...", jwt.substring(0, Math.min(jwt.length(), 20)));
-        }
 
         if (StringUtils.hasText(jwt)) {
-            boolean isValid = tokenProvider.validateToken(jwt);
-            logger.debug("🔒 토큰 유효성: {}", isValid ? "유효" : "무효");
+            long start = System.nanoTime();
+            Authentication authentication = tokenProvider.authenticate(jwt);
+            (authentication != null ? validTokenTimer : invalidTokenTimer)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 
-            if (isValid) {
-                Authentication authentication = tokenProvider.getAuthentication(jwt);
+            if (authentication != null) {
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-                logger.debug("✅ 유효한 JWT 토큰으로 인증 완료: {}", authentication.getName());
-                logger.debug("🏷️ 사용자 권한: {}", authentication.getAuthorities());
+                logger.debug("✅ 유효한 JWT 토큰으로 인증 완료: {} {}", authentication.getName(), authentication.getAuthorities());
             } else {
                 logger.warn("❌ 유효하지 않은 JWT 토큰");
             }
@@ -67,12 +75,9 @@ public class JwtFilter extends OncePerRequestFilter {
 
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
-        logger.debug("📨 Authorization 헤더: {}", bearerToken != null ? "존재함" : "없음");
 
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            String token = bearerToken.substring(7);
-            logger.debug("🎯 추출된 토큰: {}...", token.substring(0, Math.min(token.length(), 20)));
-            return token;
+            return bearerToken.substring(7);
         }
         return null;
     }
@@ -1,5 +1,9 @@
 package com.example.board.security;
 
+import com.example.board.entity.BoardCategory;
+import com.example.board.entity.User;
+import com.example.board.entity.UserRole;
+import com.example.board.util.HashUtils;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -7,14 +11,18 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Component
@@ -23,53 +31,179 @@ public class JwtTokenProvider {
     private final SecretKey key;
     private final long tokenValidityInMilliseconds;
 
+    // JwtParser 는 불변이고 스레드 안전하므로 한 번만 생성해서 재사용
+    private final JwtParser jwtParser;
+
+    // 검증이 끝난 토큰 캐시 (토큰 SHA-256 → 인증 정보, 토큰 만료 시각까지 유효)
+    private final Map<String, CachedAuthentication> authenticationCache = new ConcurrentHashMap<>();
+    private final int authenticationCacheSize;
+
+    // 역할 → 권한 목록 (역할이 몇 개 안 되므로 공유)
+    private final Map<String, List<GrantedAuthority>> authoritiesByRole = new ConcurrentHashMap<>();
+
+    private final TokenRevocationRegistry revocationRegistry;
+
     public JwtTokenProvider(
             @Value("${jwt.secret:defaultSecretKeyForDevelopmentPurposesOnlyChangeInProduction}") String secret,
-            @Value("${jwt.token-validity-in-seconds:86400}") long tokenValidityInSeconds) {
+            @Value("${jwt.token-validity-in-seconds:86400}") long tokenValidityInSeconds,
+            @Value("${jwt.authentication-cache-size:10000}") int authenticationCacheSize,
+            TokenRevocationRegistry revocationRegistry) {
         // 키 생성을 보다 안전하게 수정
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
         this.tokenValidityInMilliseconds = tokenValidityInSeconds * 1000;
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.authenticationCacheSize = authenticationCacheSize;
+        this.revocationRegistry = revocationRegistry;
     }
 
-    public String createToken(Authentication authentication) {
-        String authorities = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
+    /**
+     * Access Token 생성
+     * 요청마다 사용자 조회가 필요 없도록 id, 닉네임, 역할, 관리 게시판 id 를 클레임에 담는다
+     */
+    public String createToken(User user) {
+        List<Long> managedCategoryIds = user.getManagedCategories().stream()
+                .map(BoardCategory::getId)
+                .collect(Collectors.toList());
 
         long now = (new Date()).getTime();
         Date validity = new Date(now + this.tokenValidityInMilliseconds);
 
         return Jwts.builder()
-                .setSubject(authentication.getName())
-                .claim("auth", authorities)
+                .setId(UUID.randomUUID().toString())
+                .setSubject(user.getUsername())
+                .claim("auth", user.getRole().name())
+                .claim("uid", user.getId())
+                .claim("nick", user.getNickname())
+                .claim("cats", managedCategoryIds)
+                // iat 은 초 단위라 무효화 직후 같은 초에 재발급한 토큰을 구분할 수 없으므로 밀리초 발급 시각도 담는다
+                .claim("iatms", now)
                 .signWith(key)  // SignatureAlgorithm 생략 (자동 감지)
+                .setIssuedAt(new Date(now))
                 .setExpiration(validity)
                 .compact();
     }
 
-    public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * 토큰 검증과 Authentication 생성을 한 번의 파싱으로 처리 (유효하지 않으면 null)
+     * 같은 토큰으로 반복되는 요청은 캐시에서 바로 반환하여 서명 검증을 생략한다
+     * 무효화 목록은 캐시 여부와 관계없이 매번 확인한다
+     */
+    public Authentication authenticate(String token) {
+        if (authenticationCacheSize <= 0) {
+            CachedAuthentication parsed = parse(token);
+            return parsed != null && !isRevoked(parsed) ? parsed.toAuthentication(token) : null;
+        }
 
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get("auth").toString().split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
+        String cacheKey = HashUtils.sha256Hex(token);
+        long now = System.currentTimeMillis();
 
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
+        CachedAuthentication cached = authenticationCache.get(cacheKey);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > now) {
+                return isRevoked(cached) ? null : cached.toAuthentication(token);
+            }
+            authenticationCache.remove(cacheKey, cached);
+            return null;
+        }
+
+        CachedAuthentication parsed = parse(token);
+        if (parsed == null) {
+            return null;
+        }
 
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        if (authenticationCache.size() >= authenticationCacheSize) {
+            evict(now);
+        }
+        authenticationCache.put(cacheKey, parsed);
+        return isRevoked(parsed) ? null : parsed.toAuthentication(token);
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 로그아웃 시 무효화할 토큰 정보 (서명이 유효하지 않으면 null)
+     */
+    public TokenIdentity readTokenIdentity(String token) {
+        CachedAuthentication parsed = parse(token);
+        if (parsed == null || parsed.tokenId() == null) {
+            return null;
+        }
+        return new TokenIdentity(parsed.tokenId(), parsed.principal().getId(), parsed.expiresAtMillis());
+    }
+
+    private boolean isRevoked(CachedAuthentication authentication) {
+        return revocationRegistry.isRevoked(authentication.principal().getId(),
+                authentication.issuedAtMillis(), authentication.tokenId());
+    }
+
+    private CachedAuthentication parse(String token) {
+        Claims claims;
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            claims = jwtParser.parseClaimsJws(token).getBody();
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
+        }
+
+        // uid 클레임이 없는 이전 형식의 토큰은 재발급 받도록 거부
+        Object authClaim = claims.get("auth");
+        Object userIdClaim = claims.get("uid");
+        if (authClaim == null || !(userIdClaim instanceof Number) || claims.getExpiration() == null) {
+            return null;
+        }
+
+        UserRole role;
+        try {
+            role = UserRole.valueOf(authClaim.toString());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        List<GrantedAuthority> authorities = authoritiesByRole.computeIfAbsent(role.name(),
+                name -> List.of(new SimpleGrantedAuthority(name)));
+
+        Set<Long> managedCategoryIds = new HashSet<>();
+        if (claims.get("cats") instanceof Collection<?> categoryIds) {
+            for (Object categoryId : categoryIds) {
+                if (categoryId instanceof Number number) {
+                    managedCategoryIds.add(number.longValue());
+                }
+            }
         }
+
+        CurrentUser principal = new CurrentUser(((Number) userIdClaim).longValue(), claims.getSubject(),
+                claims.get("nick", String.class), role, managedCategoryIds);
+        // iatms 가 없는 이전 토큰은 iat 초의 시작으로 봄 (같은 초의 무효화에 걸리는 쪽으로)
+        long issuedAtMillis;
+        if (claims.get("iatms") instanceof Number issuedAt) {
+            issuedAtMillis = issuedAt.longValue();
+        } else {
+            issuedAtMillis = claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() / 1000 * 1000 : 0;
+        }
+        return new CachedAuthentication(principal, authorities, claims.getExpiration().getTime(),
+                claims.getId(), issuedAtMillis);
+    }
+
+    /**
+     * 캐시가 가득 차면 만료된 항목부터 정리하고, 그래도 부족하면 임의 항목을 비움
+     */
+    private void evict(long now) {
+        authenticationCache.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+
+        int target = authenticationCacheSize - Math.max(1, authenticationCacheSize / 10);
+        Iterator<String> iterator = authenticationCache.keySet().iterator();
+        while (authenticationCache.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    // Authentication 은 가변 객체이므로 요청마다 새로 만들고, 캐시에는 불변 구성요소만 보관
+    private record CachedAuthentication(CurrentUser principal, List<GrantedAuthority> authorities, long expiresAtMillis,
+                                        String tokenId, long issuedAtMillis) {
+
+        Authentication toAuthentication(String token) {
+            return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        }
+    }
+
+    public record TokenIdentity(String tokenId, long userId, long expiresAtMillis) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,113 @@
+package com.example.board.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쓰기 요청 속도 제한 (JwtFilter 다음에 실행)
+ * 규칙 형식: "METHOD 경로패턴=요청수/초" 를 쉼표로 구분 (예: "POST /api/posts=10/60")
+ * 로그인 사용자는 사용자 id, 익명 요청은 IP 기준으로 규칙마다 별도 버킷을 사용한다.
+ * GET/HEAD/OPTIONS 요청은 규칙을 확인하지 않고 바로 통과시킨다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final RateLimiter rateLimiter;
+    private final List<Rule> rules;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(RateLimiter rateLimiter, String ruleSpec) {
+        this.rateLimiter = rateLimiter;
+        this.rules = parseRules(ruleSpec);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return rules.isEmpty() || "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Rule rule = findRule(request.getMethod(), request.getRequestURI());
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String clientKey = CurrentUser.get()
+                .map(user -> "u:" + user.getId())
+                .orElseGet(() -> "ip:" + request.getRemoteAddr());
+
+        long waitNanos = rateLimiter.tryConsume(rule.index() + "|" + clientKey, rule.capacity(), rule.periodNanos());
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        logger.debug("요청 속도 제한: {} {} ({})", request.getMethod(), request.getRequestURI(), clientKey);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"message\":\"요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.\"}");
+    }
+
+    private Rule findRule(String method, String path) {
+        for (Rule rule : rules) {
+            if (rule.method().equals(method) && pathMatcher.match(rule.pattern(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private static List<Rule> parseRules(String ruleSpec) {
+        List<Rule> rules = new ArrayList<>();
+        if (ruleSpec == null || ruleSpec.isBlank()) {
+            return rules;
+        }
+
+        for (String entry : ruleSpec.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            try {
+                int equals = trimmed.lastIndexOf('=');
+                String[] target = trimmed.substring(0, equals).trim().split("\\s+");
+                String[] limit = trimmed.substring(equals + 1).trim().split("/");
+                rules.add(new Rule(rules.size(), target[0].toUpperCase(Locale.ROOT), target[1],
+                        Integer.parseInt(limit[0].trim()),
+                        TimeUnit.SECONDS.toNanos(Long.parseLong(limit[1].trim()))));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 rate-limit 규칙: " + trimmed, e);
+            }
+        }
+        return List.copyOf(rules);
+    }
+
+    private record Rule(int index, String method, String pattern, int capacity, long periodNanos) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.board.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 저장소
+ * 버킷은 사용할 때만 경과 시간만큼 채우므로 (lazy refill) 타이머가 필요 없고,
+ * ConcurrentHashMap 이 키별로 잠금을 나눠 주므로 서로 다른 사용자끼리는 경합하지 않는다.
+ * 오래 쓰지 않은 버킷은 어차피 가득 찬 상태이므로 주기적으로 제거한다.
+ */
+@Component
+public class RateLimiter {
+
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final long idleTimeoutNanos;
+
+    public RateLimiter(@Value("${rate-limit.idle-timeout-seconds:600}") long idleTimeoutSeconds) {
+        this.idleTimeoutNanos = TimeUnit.SECONDS.toNanos(idleTimeoutSeconds);
+    }
+
+    /**
+     * 토큰 하나 사용
+     * @param capacity 버킷 크기 (연속 허용 요청 수)
+     * @param periodNanos 버킷이 비었을 때 가득 차는 데 걸리는 시간
+     * @return 0 이면 허용, 아니면 다음 토큰까지 남은 시간 (나노초)
+     */
+    public long tryConsume(String key, int capacity, long periodNanos) {
+        long now = System.nanoTime();
+        Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(capacity, now));
+        return bucket.tryConsume(capacity, (double) capacity / periodNanos, now);
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.idleNanos(now) > idleTimeoutNanos);
+    }
+
+    public int getBucketCount() {
+        return buckets.size();
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long lastRefillNanos;
+
+        Bucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.lastRefillNanos = now;
+        }
+
+        synchronized long tryConsume(int capacity, double tokensPerNano, long now) {
+            long elapsed = now - lastRefillNanos;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+                lastRefillNanos = now;
+            }
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+        }
+
+        synchronized long idleNanos(long now) {
+            return now - lastRefillNanos;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.board.security;
+
+import com.example.board.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이미 발급된 Access Token 무효화 목록 (메모리, 요청마다 O(1) 확인)
+ * - 사용자별 기준 시각: 그 시각 이전에 발급된 토큰은 모두 거부 (계정 잠금, 권한 변경, 삭제)
+ * - 토큰 id(jti) 목록: 로그아웃한 토큰 하나만 거부, Bloom filter 로 대부분의 조회를 바로 통과시킨다
+ * DB 에 저장된 값으로 시작 시 다시 채워지며 (TokenRevocationService), 만료된 항목은 주기적으로 정리된다
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    private final long tokenValidityInSeconds;
+    private final int bloomExpectedInsertions;
+    private final double bloomFalsePositiveRate;
+
+    // 사용자 id → 이 시각(epoch 밀리초)보다 먼저 발급된 토큰은 무효
+    // (초 단위로 비교하면 무효화와 같은 초에 재발급한 토큰까지 거부되어 클라이언트가 401 을 반복함)
+    private final Map<Long, Long> revokedBeforeByUser = new ConcurrentHashMap<>();
+
+    // 토큰 id → 토큰 만료 시각(epoch 밀리초)
+    private final Map<String, Long> revokedTokenIds = new ConcurrentHashMap<>();
+
+    // 읽기는 잠금 없이, 추가/재생성만 synchronized
+    private volatile BloomFilter revokedTokenFilter;
+
+    public TokenRevocationRegistry(
+            @Value("${jwt.token-validity-in-seconds:86400}") long tokenValidityInSeconds,
+            @Value("${jwt.revocation.bloom-expected-insertions:100000}") int bloomExpectedInsertions,
+            @Value("${jwt.revocation.bloom-false-positive-rate:0.01}") double bloomFalsePositiveRate) {
+        this.tokenValidityInSeconds = tokenValidityInSeconds;
+        this.bloomExpectedInsertions = bloomExpectedInsertions;
+        this.bloomFalsePositiveRate = bloomFalsePositiveRate;
+        this.revokedTokenFilter = BloomFilter.create(bloomExpectedInsertions, bloomFalsePositiveRate);
+    }
+
+    /**
+     * 토큰이 무효화되었는지 확인
+     * @param issuedAtMillis 토큰 발급 시각 (epoch 밀리초, 없으면 0)
+     * @param tokenId 토큰 id (jti, 없으면 null)
+     */
+    public boolean isRevoked(long userId, long issuedAtMillis, String tokenId) {
+        Long revokedBefore = revokedBeforeByUser.get(userId);
+        if (revokedBefore != null && issuedAtMillis < revokedBefore) {
+            return true;
+        }
+        return tokenId != null
+                && revokedTokenFilter.mightContain(tokenId)
+                && revokedTokenIds.containsKey(tokenId);
+    }
+
+    /**
+     * 해당 시각(epoch 밀리초) 이전에 발급된 사용자의 모든 토큰 무효화
+     */
+    public void revokeUserTokensIssuedBefore(long userId, long epochMillis) {
+        revokedBeforeByUser.merge(userId, epochMillis, Math::max);
+    }
+
+    /**
+     * 토큰 하나 무효화 (로그아웃)
+     */
+    public synchronized void revokeToken(String tokenId, long expiresAtMillis) {
+        revokedTokenIds.put(tokenId, expiresAtMillis);
+        revokedTokenFilter.put(tokenId);
+    }
+
+    /**
+     * 만료된 항목 정리
+     * 기준 시각이 토큰 유효시간보다 오래되었으면 그 이전 토큰은 이미 만료되었으므로 제거하고,
+     * 토큰 id 가 빠지면 Bloom filter 는 삭제가 안 되므로 남은 항목으로 다시 만든다
+     */
+    public synchronized void purgeExpired(long nowMillis) {
+        long oldestLiveIssuedAt = nowMillis - tokenValidityInSeconds * 1000;
+        revokedBeforeByUser.values().removeIf(revokedBefore -> revokedBefore < oldestLiveIssuedAt);
+
+        if (revokedTokenIds.values().removeIf(expiresAt -> expiresAt <= nowMillis)) {
+            rebuildFilter();
+        }
+    }
+
+    public int getRevokedUserCount() {
+        return revokedBeforeByUser.size();
+    }
+
+    public int getRevokedTokenCount() {
+        return revokedTokenIds.size();
+    }
+
+    private void rebuildFilter() {
+        BloomFilter filter = BloomFilter.create(
+                Math.max(bloomExpectedInsertions, revokedTokenIds.size() * 2), bloomFalsePositiveRate);
+        revokedTokenIds.keySet().forEach(filter::put);
+        revokedTokenFilter = filter;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.board.service;
+
+import com.example.board.dto.PostDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 게시글 첨부파일들을 ZIP 으로 묶어 스트리밍
+ * 임시 아카이브를 만들지 않고 고정 크기 버퍼로 파일을 하나씩 흘려보내므로 메모리 사용량이 일정하다
+ */
+@Service
+public class AttachmentArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentArchiveService.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // 이미 압축된 형식 - 다시 압축해도 이득이 없으므로 STORED
+    private static final Set<String> COMPRESSED_EXTENSIONS = Set.of(
+            "jpg", "jpeg", "png", "gif", "webp", "heic", "avif",
+            "mp4", "mov", "webm", "mkv", "avi", "mp3", "aac", "ogg", "m4a", "flac",
+            "zip", "gz", "tgz", "7z", "rar", "bz2", "xz",
+            "pdf", "docx", "xlsx", "pptx", "hwpx");
+
+    private final FileStorageService fileStorageService;
+
+    @Autowired
+    public AttachmentArchiveService(FileStorageService fileStorageService) {
+        this.fileStorageService = fileStorageService;
+    }
+
+    /**
+     * 첨부파일 목록을 ZIP 으로 기록 (outputStream 은 닫지 않음)
+     */
+    public void writeZip(List<PostDto.AttachmentDto> attachments, OutputStream outputStream) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(outputStream);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        Set<String> usedNames = new HashSet<>();
+
+        for (PostDto.AttachmentDto attachment : attachments) {
+            Resource resource;
+            try {
+                resource = fileStorageService.loadPostAttachment(attachment.getFileName());
+            } catch (RuntimeException e) {
+                logger.warn("ZIP 생성 중 첨부파일 누락: {}", attachment.getFileName());
+                continue;
+            }
+
+            String entryName = uniqueEntryName(attachment.getOriginalFileName(), usedNames);
+            ZipEntry entry = new ZipEntry(entryName);
+
+            if (isAlreadyCompressed(entryName, attachment.getFileType())) {
+                // STORED 는 크기와 CRC 를 먼저 써야 하므로 한 번 더 읽어서 계산
+                CRC32 crc = new CRC32();
+                long size = 0;
+                try (InputStream inputStream = resource.getInputStream()) {
+                    int read;
+                    while ((read = inputStream.read(buffer)) != -1) {
+                        crc.update(buffer, 0, read);
+                        size += read;
+                    }
+                }
+                entry.setMethod(ZipEntry.STORED);
+                entry.setSize(size);
+                entry.setCompressedSize(size);
+                entry.setCrc(crc.getValue());
+            } else {
+                entry.setMethod(ZipEntry.DEFLATED);
+            }
+
+            zip.putNextEntry(entry);
+            try (InputStream inputStream = resource.getInputStream()) {
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    zip.write(buffer, 0, read);
+                }
+            }
+            zip.closeEntry();
+        }
+
+        zip.finish();
+        zip.flush();
+    }
+
+    private boolean isAlreadyCompressed(String fileName, String fileType) {
+        int dot = fileName.lastIndexOf('.');
+        if (dot != -1 && COMPRESSED_EXTENSIONS.contains(fileName.substring(dot + 1).toLowerCase(Locale.ROOT))) {
+            return true;
+        }
+        if (fileType == null) {
+            return false;
+        }
+        return (fileType.startsWith("image/") && !fileType.equals("image/svg+xml") && !fileType.equals("image/bmp"))
+                || fileType.startsWith("video/")
+                || (fileType.startsWith("audio/") && !fileType.equals("audio/wav"));
+    }
+
+    /**
+     * ZIP 항목 이름 (경로 제거 + 중복 시 " (2)" 형태로 구분)
+     */
+    private String uniqueEntryName(String originalFileName, Set<String> usedNames) {
+        String name = originalFileName != null ? originalFileName : "file";
+        name = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1);
+        if (name.isBlank()) {
+            name = "file";
+        }
+
+        String candidate = name;
+        int dot = name.lastIndexOf('.');
+        String baseName = dot > 0 ? name.substring(0, dot) : name;
+        String extension = dot > 0 ? name.substring(dot) : "";
+        for (int counter = 2; !usedNames.add(candidate); counter++) {
+            candidate = baseName + " (" + counter + ")" + extension;
+        }
+        return candidate;
+    }
+}
@@ -0,0 +1,396 @@
+package com.example.board.service;
+
+import com.example.board.dto.AuditEventDto;
+import com.example.board.security.CurrentUser;
+import com.example.board.util.MpscRingBuffer;
+import com.example.board.util.TransactionUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+
+/**
+ * 쓰기 작업 감사 저널
+ * - 요청 스레드는 커밋 후 이벤트를 링 버퍼에 넣기만 한다 (가득 차면 버리고 audit.events.dropped 증가)
+ * - 백그라운드 스레드 하나가 모아서 세그먼트 파일(audit-{생성시각}.jsonl)에 JSON 한 줄씩 이어 쓴다
+ * - 세그먼트가 segment-size 를 넘으면 새 파일로 바꾸고, max-segments 를 넘는 오래된 파일은 지운다
+ * - 기록할 때 순번(seq)을 붙이며, 조회는 마지막으로 받은 순번 이후(after)로 이어서 한다
+ *   (커밋 순서와 타임스탬프 순서가 다를 수 있고 같은 시각의 이벤트도 있어 타임스탬프로는 이어 받을 수 없음)
+ */
+@Component
+public class AuditJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditJournal.class);
+
+    private static final String SEGMENT_PREFIX = "audit-";
+    private static final String SEGMENT_SUFFIX = ".jsonl";
+    // 예상하지 못한 오류 후 다시 시도하기 전 대기 시간
+    private static final long ERROR_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long segmentSize;
+    private final int maxSegments;
+
+    private final MpscRingBuffer<AuditEventDto> buffer;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    // 아래 필드는 writer 스레드만 사용
+    private FileChannel activeChannel;
+    private long activeSize;
+    private long nextSeq;
+
+    @Autowired
+    public AuditJournal(ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry,
+                        @Value("${audit.directory:./audit}") String directory,
+                        @Value("${audit.buffer-capacity:8192}") int bufferCapacity,
+                        @Value("${audit.batch-size:512}") int batchSize,
+                        @Value("${audit.flush-interval-ms:200}") long flushIntervalMillis,
+                        @Value("${audit.segment-size:16777216}") long segmentSize,
+                        @Value("${audit.max-segments:20}") int maxSegments) {
+        this.objectMapper = objectMapper;
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.segmentSize = segmentSize;
+        this.maxSegments = Math.max(1, maxSegments);
+        this.buffer = new MpscRingBuffer<>(bufferCapacity);
+
+        try {
+            Files.createDirectories(this.directory);
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not create audit directory " + this.directory, ex);
+        }
+        // 재시작 후에도 순번이 이어지도록 마지막 세그먼트의 마지막 순번부터 시작
+        List<Path> segments = listSegments();
+        this.nextSeq = segments.isEmpty() ? 1 : lastSequence(segments.get(segments.size() - 1)) + 1;
+
+        Gauge.builder("audit.buffer.size", buffer, MpscRingBuffer::size)
+                .description("기록 대기 중인 감사 이벤트 수")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.events.written").register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.events.dropped")
+                .description("버퍼 초과/쓰기 실패로 버려진 감사 이벤트 수")
+                .register(meterRegistry);
+
+        this.writer = new Thread(this::runWriter, "audit-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * 감사 이벤트 기록 (현재 트랜잭션이 커밋된 후 버퍼에 추가, 롤백되면 기록하지 않음)
+     */
+    public void record(String action, String targetType, Object targetId, Map<String, Object> detail) {
+        CurrentUser actor = CurrentUser.get().orElse(null);
+        AuditEventDto event = AuditEventDto.builder()
+                .timestamp(LocalDateTime.now())
+                .actorId(actor != null ? actor.getId() : null)
+                .actor(actor != null ? actor.getUsername() : null)
+                .action(action)
+                .targetType(targetType)
+                .targetId(targetId != null ? String.valueOf(targetId) : null)
+                .detail(detail)
+                .build();
+        TransactionUtils.afterCommit(() -> enqueue(event));
+    }
+
+    /**
+     * 이벤트 상세 (키, 값 순서로 나열, 값이 null 인 항목은 제외)
+     */
+    public static Map<String, Object> detail(Object... keysAndValues) {
+        Map<String, Object> detail = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < keysAndValues.length; i += 2) {
+            if (keysAndValues[i + 1] != null) {
+                detail.put(String.valueOf(keysAndValues[i]), keysAndValues[i + 1]);
+            }
+        }
+        return detail;
+    }
+
+    /**
+     * 순번이 afterSeq 보다 큰 이벤트 (기록 순, 최대 limit 건) - 이전 응답의 마지막 seq 로 이어 받기
+     * 버퍼에서 아직 파일로 쓰이지 않은 이벤트(최대 flush 간격)는 포함되지 않는다
+     */
+    public List<AuditEventDto> findAfter(long afterSeq, int limit) {
+        List<Path> segments = listSegments();
+
+        // 첫 순번이 afterSeq 이하인 마지막 세그먼트부터 읽음 (뒤에서부터 첫 줄만 확인)
+        int first = 0;
+        for (int i = segments.size() - 1; i > 0; i--) {
+            if (firstSequence(segments.get(i)) <= afterSeq) {
+                first = i;
+                break;
+            }
+        }
+
+        List<AuditEventDto> events = new ArrayList<>();
+        for (int i = first; i < segments.size() && events.size() < limit; i++) {
+            readSegment(segments.get(i), limit, events,
+                    event -> event.getSeq() != null && event.getSeq() > afterSeq);
+        }
+        return events;
+    }
+
+    /**
+     * since 이후 이벤트 (기록 순, 최대 limit 건) - 첫 조회용, 다음 페이지는 findAfter 로 받음
+     * 버퍼에서 아직 파일로 쓰이지 않은 이벤트(최대 flush 간격)는 포함되지 않는다
+     */
+    public List<AuditEventDto> find(LocalDateTime since, int limit) {
+        long sinceMillis = since.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        List<Path> segments = listSegments();
+
+        // since 이전에 만들어진 마지막 세그먼트부터 읽음 (그 전 세그먼트의 이벤트는 모두 since 이전)
+        int first = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            if (segmentStart(segments.get(i)) <= sinceMillis) {
+                first = i;
+            }
+        }
+
+        List<AuditEventDto> events = new ArrayList<>();
+        for (int i = first; i < segments.size() && events.size() < limit; i++) {
+            readSegment(segments.get(i), limit, events,
+                    event -> event.getTimestamp() != null && event.getTimestamp().isAfter(since));
+        }
+        return events;
+    }
+
+    private void enqueue(AuditEventDto event) {
+        if (!buffer.offer(event)) {
+            droppedCounter.increment();
+            logger.debug("감사 버퍼 초과, 이벤트 버림: {} {}", event.getAction(), event.getTargetId());
+        }
+    }
+
+    private void readSegment(Path segment, int limit, List<AuditEventDto> events, Predicate<AuditEventDto> filter) {
+        try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+            String line;
+            while (events.size() < limit && (line = reader.readLine()) != null) {
+                AuditEventDto event;
+                try {
+                    event = objectMapper.readValue(line, AuditEventDto.class);
+                } catch (JsonProcessingException ex) {
+                    // 쓰는 중인 마지막 줄
+                    continue;
+                }
+                if (filter.test(event)) {
+                    events.add(event);
+                }
+            }
+        } catch (IOException ex) {
+            // 읽는 사이 보존 기간이 지나 삭제된 세그먼트
+            logger.debug("감사 세그먼트 읽기 실패: {}", segment, ex);
+        }
+    }
+
+    // ================================
+    // 백그라운드 기록
+    // ================================
+
+    private void runWriter() {
+        List<AuditEventDto> batch = new ArrayList<>(batchSize);
+        while (true) {
+            batch.clear();
+            if (buffer.drainTo(batch, batchSize) == 0) {
+                if (!running) {
+                    break;
+                }
+                LockSupport.parkNanos(flushIntervalNanos);
+                continue;
+            }
+            try {
+                writeBatch(batch);
+            } catch (RuntimeException ex) {
+                // 세그먼트 목록 조회 실패 등 - 기록 스레드가 죽으면 재시작 전까지 모든 이벤트가 버려지므로 이 배치만 버리고 계속
+                droppedCounter.increment(batch.size());
+                logger.error("감사 이벤트 기록 실패 ({}건)", batch.size(), ex);
+                closeActiveSegment();
+                LockSupport.parkNanos(ERROR_BACKOFF_NANOS);
+            }
+        }
+        closeActiveSegment();
+    }
+
+    private void writeBatch(List<AuditEventDto> batch) {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream(batch.size() * 256);
+        for (AuditEventDto event : batch) {
+            event.setSeq(nextSeq++);
+            try {
+                lines.write(objectMapper.writeValueAsBytes(event));
+                lines.write('\n');
+            } catch (IOException ex) {
+                droppedCounter.increment();
+                logger.warn("감사 이벤트 직렬화 실패: {}", event.getAction(), ex);
+            }
+        }
+        if (lines.size() == 0) {
+            return;
+        }
+
+        try {
+            if (activeChannel == null || (activeSize > 0 && activeSize + lines.size() > segmentSize)) {
+                rotate();
+            }
+            ByteBuffer data = ByteBuffer.wrap(lines.toByteArray());
+            while (data.hasRemaining()) {
+                activeSize += activeChannel.write(data);
+            }
+            writtenCounter.increment(batch.size());
+        } catch (IOException ex) {
+            // 다음 배치에서 새 세그먼트로 다시 시도
+            droppedCounter.increment(batch.size());
+            logger.error("감사 이벤트 기록 실패 ({}건)", batch.size(), ex);
+            closeActiveSegment();
+        }
+    }
+
+    private void rotate() throws IOException {
+        boolean full = activeChannel != null;
+        closeActiveSegment();
+
+        // 시작 직후(또는 쓰기 실패 후)에는 마지막 세그먼트에 여유가 있으면 이어서 씀
+        Path segment = null;
+        List<Path> segments = listSegments();
+        if (!full && !segments.isEmpty()) {
+            Path last = segments.get(segments.size() - 1);
+            if (Files.size(last) < segmentSize) {
+                segment = last;
+            }
+        }
+        if (segment == null) {
+            segment = directory.resolve(String.format("%s%013d%s", SEGMENT_PREFIX, System.currentTimeMillis(), SEGMENT_SUFFIX));
+        }
+
+        activeChannel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        activeSize = activeChannel.size();
+        deleteExpiredSegments();
+    }
+
+    private void deleteExpiredSegments() {
+        List<Path> segments = listSegments();
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            try {
+                Files.deleteIfExists(segments.get(i));
+            } catch (IOException ex) {
+                logger.warn("오래된 감사 세그먼트 삭제 실패: {}", segments.get(i), ex);
+            }
+        }
+    }
+
+    private void closeActiveSegment() {
+        if (activeChannel != null) {
+            try {
+                activeChannel.close();
+            } catch (IOException ex) {
+                logger.warn("감사 세그먼트 닫기 실패", ex);
+            }
+            activeChannel = null;
+        }
+    }
+
+    // 생성 시각 순 (파일 이름의 시각이 0 으로 채워져 있어 이름 순과 같음)
+    private List<Path> listSegments() {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(segments::add);
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not list audit segments in " + directory, ex);
+        }
+        segments.sort(null);
+        return segments;
+    }
+
+    // 세그먼트 첫 이벤트의 순번 (읽을 수 없으면 0 - 처음부터 읽게 됨)
+    private long firstSequence(Path segment) {
+        try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            Long seq = line != null ? parseSequence(line) : null;
+            return seq != null ? seq : 0;
+        } catch (IOException ex) {
+            return 0;
+        }
+    }
+
+    // 세그먼트 마지막 이벤트의 순번 (쓰다 만 마지막 줄은 건너뜀)
+    private long lastSequence(Path segment) {
+        long last = 0;
+        try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Long seq = parseSequence(line);
+                if (seq != null) {
+                    last = seq;
+                }
+            }
+        } catch (IOException ex) {
+            logger.warn("감사 세그먼트 순번 확인 실패: {}", segment, ex);
+        }
+        return last;
+    }
+
+    private Long parseSequence(String line) {
+        try {
+            return objectMapper.readValue(line, AuditEventDto.class).getSeq();
+        } catch (JsonProcessingException ex) {
+            return null;
+        }
+    }
+
+    private static long segmentStart(Path segment) {
+        String name = segment.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+
+    /**
+     * 남은 이벤트를 모두 쓰고 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -5,19 +5,18 @@ import com.example.board.dto.UserDto;
 import com.example.board.entity.User;
 import com.example.board.repository.UserRepository;
 import com.example.board.security.JwtTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import com.example.board.entity.RefreshToken;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-
-import java.util.Collections;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class AuthService {
@@ -26,21 +25,36 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final UserService userService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginAttemptThrottle loginAttemptThrottle;
     private final JwtTokenProvider tokenProvider;
     private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
 
     @Autowired
     public AuthService(UserRepository userRepository,
                        UserService userService,
-                       PasswordEncoder passwordEncoder,
+                       PasswordHashingService passwordHashingService,
+                       LoginAttemptThrottle loginAttemptThrottle,
                        JwtTokenProvider tokenProvider,
-                       RefreshTokenService refreshTokenService) {
+                       RefreshTokenService refreshTokenService,
+                       TokenRevocationService tokenRevocationService,
+                       MeterRegistry meterRegistry,
+                       PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
         this.userService = userService;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
+        this.loginAttemptThrottle = loginAttemptThrottle;
         this.tokenProvider = tokenProvider;
         this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
     }
 
     @Transactional
@@ -60,21 +74,60 @@ public class AuthService {
         }
     }
 
-    @Transactional
-    public AuthDto.LoginResponse login(AuthDto.LoginRequest request) {
+    /**
+     * 로그인
+     * 비밀번호 해시 대기열에서 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션으로 묶지 않는다.
+     * (사용자 조회, 해시 갱신, Refresh Token 저장은 각각 짧은 트랜잭션)
+     */
+    public AuthDto.LoginResponse login(AuthDto.LoginRequest request, String clientIp) {
+        // 로그인 전체 시간 (비밀번호 해시 대기/계산 포함), 결과별
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
         try {
             logger.info("로그인 시도: {}", request.getUsername());
 
-            User user = userRepository.findByUsername(request.getUsername())
-                    .orElseThrow(() -> new BadCredentialsException("잘못된 사용자 이름 또는 비밀번호입니다."));
+            // 실패가 누적된 사용자명+IP / IP 는 비밀번호 해시 전에 거절
+            loginAttemptThrottle.checkAllowed(request.getUsername(), clientIp);
+
+            User user = readOnlyTransactionTemplate.execute(status -> {
+                User found = userRepository.findByUsername(request.getUsername()).orElse(null);
+                if (found != null) {
+                    // 토큰/응답에 담을 관리 게시판을 트랜잭션 안에서 미리 로딩
+                    Hibernate.initialize(found.getManagedCategories());
+                }
+                return found;
+            });
+            if (user == null) {
+                loginAttemptThrottle.recordFailure(request.getUsername(), clientIp);
+                throw new BadCredentialsException("잘못된 사용자 이름 또는 비밀번호입니다.");
+            }
 
             logger.info("사용자 발견: {}", user.getUsername());
 
-            if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+            // BCrypt 검증은 전용 스레드 풀에서 실행 (대기열 초과 시 TooManyRequestsException)
+            if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
                 logger.info("비밀번호 불일치: {}", user.getUsername());
+                loginAttemptThrottle.recordFailure(request.getUsername(), clientIp);
                 throw new BadCredentialsException("잘못된 사용자 이름 또는 비밀번호입니다.");
             }
 
+            loginAttemptThrottle.recordSuccess(request.getUsername(), clientIp);
+
+            // 저장된 해시의 cost 가 현재 설정보다 낮으면 다시 해시 (비밀번호 원문을 알 수 있는 로그인 시점에만 가능)
+            if (passwordHashingService.needsRehash(user.getPassword())) {
+                try {
+                    String rehashed = passwordHashingService.encode(request.getPassword());
+                    Long userId = user.getId();
+                    transactionTemplate.executeWithoutResult(status -> userRepository.findById(userId)
+                            .ifPresent(managed -> managed.setPassword(rehashed)));
+                    user.setPassword(rehashed);
+                    logger.info("비밀번호 해시 갱신: {}", user.getUsername());
+                } catch (TooManyRequestsException e) {
+                    // 바쁠 때는 다음 로그인으로 미룸
+                    logger.debug("비밀번호 해시 갱신 생략 (요청 과다): {}", user.getUsername());
+                }
+            }
+
             if (!user.isEnabled()) {
                 logger.info("비활성화된 계정: {}", user.getUsername());
                 throw new BadCredentialsException("비활성화된 계정입니다.");
@@ -87,12 +140,7 @@ public class AuthService {
 
             // Access Token 생성
             logger.info("Access Token 생성 중: {}", user.getUsername());
-            Authentication authentication = new UsernamePasswordAuthenticationToken(
-                    user.getUsername(),
-                    null,
-                    Collections.singletonList(new SimpleGrantedAuthority(user.getRole().name()))
-            );
-            String accessToken = tokenProvider.createToken(authentication);
+            String accessToken = tokenProvider.createToken(user);
             logger.info("Access Token 생성 완료: {}", user.getUsername());
 
             // Refresh Token 생성
@@ -104,31 +152,48 @@ public class AuthService {
             UserDto userDto = UserDto.fromEntity(user);
 
             logger.info("로그인 성공: {} (닉네임: {})", user.getUsername(), user.getNickname());
+            outcome = "success";
             return new AuthDto.LoginResponse(accessToken, refreshToken.getToken(), userDto);
 
+        } catch (TooManyRequestsException e) {
+            logger.warn("로그인 거절 (요청 과다): {}", request.getUsername());
+            outcome = "rejected";
+            throw e;
         } catch (Exception e) {
             logger.error("로그인 실패: {}", e.getMessage(), e);
             throw e;
+        } finally {
+            sample.stop(Timer.builder("auth.login")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
         }
     }
 
-    @Transactional
+    /**
+     * Access Token 재발급 + Refresh Token 교체
+     * 폐기된 Refresh Token 이 재사용되면 해당 사용자의 모든 토큰을 폐기한다 (이 경우 롤백하지 않음)
+     */
+    @Transactional(noRollbackFor = RefreshTokenService.RefreshTokenReuseException.class)
     public AuthDto.TokenRefreshResponse refreshToken(String refreshTokenStr) {
         try {
-            RefreshToken refreshToken = refreshTokenService.findByToken(refreshTokenStr)
-                    .orElseThrow(() -> new RuntimeException("유효하지 않은 refresh token입니다."));
+            RefreshToken newRefreshToken = refreshTokenService.rotate(refreshTokenStr);
 
-            refreshToken = refreshTokenService.verifyExpiration(refreshToken);
+            // 잠기거나 비활성화된 계정은 재발급 불가
+            User user = newRefreshToken.getUser();
+            if (!user.isEnabled() || user.isLocked()) {
+                throw new RuntimeException("사용할 수 없는 계정입니다. 관리자에게 문의하세요.");
+            }
 
             // 새로운 Access Token 생성
-            Authentication authentication = new UsernamePasswordAuthenticationToken(
-                    refreshToken.getUser().getUsername(),
-                    null,
-                    Collections.singletonList(new SimpleGrantedAuthority(refreshToken.getUser().getRole().name()))
-            );
-            String newAccessToken = tokenProvider.createToken(authentication);
+            String newAccessToken = tokenProvider.createToken(user);
 
-            return new AuthDto.TokenRefreshResponse(newAccessToken, refreshToken.getToken());
+            return new AuthDto.TokenRefreshResponse(newAccessToken, newRefreshToken.getToken());
+        } catch (RefreshTokenService.RefreshTokenReuseException e) {
+            // 탈취된 토큰으로 이미 발급된 Access Token 도 무효화
+            tokenRevocationService.revokeAllAccessTokens(e.getUser());
+            logger.warn("토큰 갱신 거부 (재사용): {}", e.getUser().getUsername());
+            throw e;
         } catch (Exception e) {
             logger.error("토큰 갱신 실패: {}", e.getMessage(), e);
             throw e;
@@ -136,9 +201,14 @@ public class AuthService {
     }
 
     @Transactional
-    public void logout(String refreshTokenStr) {
+    public void logout(String refreshTokenStr, String accessToken) {
         try {
             refreshTokenService.revokeToken(refreshTokenStr);
+
+            // 사용 중이던 Access Token 도 만료 전에 바로 무효화
+            if (accessToken != null) {
+                tokenRevocationService.revokeAccessToken(accessToken);
+            }
         } catch (Exception e) {
             logger.error("로그아웃 실패: {}", e.getMessage(), e);
             throw e;
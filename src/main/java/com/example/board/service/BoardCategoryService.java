@@ -8,38 +8,35 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 public class BoardCategoryService {
 
     private final BoardCategoryRepository boardCategoryRepository;
+    private final CategoryCatalog categoryCatalog;
+    private final AuditJournal auditJournal;
 
     @Autowired
-    public BoardCategoryService(BoardCategoryRepository boardCategoryRepository) {
+    public BoardCategoryService(BoardCategoryRepository boardCategoryRepository, CategoryCatalog categoryCatalog,
+                                AuditJournal auditJournal) {
         this.boardCategoryRepository = boardCategoryRepository;
+        this.categoryCatalog = categoryCatalog;
+        this.auditJournal = auditJournal;
     }
 
-    @Transactional(readOnly = true)
+    // 게시판 목록과 통계는 메모리 스냅샷에서 반환 (DB 조회 없음)
     public List<BoardCategoryDto> getAllCategories() {
-        return boardCategoryRepository.findAll()
-                .stream()
-                .map(BoardCategoryDto::fromEntity)
-                .collect(Collectors.toList());
+        return categoryCatalog.getCategories();
     }
 
-    @Transactional(readOnly = true)
     public BoardCategoryDto getCategoryById(Long id) {
-        BoardCategory category = boardCategoryRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다: " + id));
-        return BoardCategoryDto.fromEntity(category);
+        return categoryCatalog.getCategoryDto(id);
     }
 
     @Transactional
     public BoardCategoryDto createCategory(BoardCategoryDto categoryDto) {
-        // 이름 중복 체크
-        if (boardCategoryRepository.findByName(categoryDto.getName()).isPresent()) {
+        // 이름 중복 체크 (동시 생성은 DB unique 제약으로 막힘)
+        if (categoryCatalog.isNameTaken(categoryDto.getName(), null)) {
             throw new RuntimeException("이미 존재하는 카테고리 이름입니다: " + categoryDto.getName());
         }
 
@@ -49,7 +46,9 @@ public class BoardCategoryService {
                 .build();
 
         BoardCategory savedCategory = boardCategoryRepository.save(category);
-        System.out.println("📋 새 카테고리 생성: " + savedCategory.getName());
+        categoryCatalog.categorySaved(savedCategory);
+        auditJournal.record("CATEGORY_CREATE", "CATEGORY", savedCategory.getId(),
+                AuditJournal.detail("name", savedCategory.getName()));
 
         return BoardCategoryDto.fromEntity(savedCategory);
     }
@@ -60,8 +59,7 @@ public class BoardCategoryService {
                 .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다: " + id));
 
         // 이름 중복 체크 (자기 자신 제외)
-        Optional<BoardCategory> existingCategory = boardCategoryRepository.findByName(categoryDto.getName());
-        if (existingCategory.isPresent() && !existingCategory.get().getId().equals(id)) {
+        if (categoryCatalog.isNameTaken(categoryDto.getName(), id)) {
             throw new RuntimeException("이미 존재하는 카테고리 이름입니다: " + categoryDto.getName());
         }
 
@@ -69,7 +67,9 @@ public class BoardCategoryService {
         category.setDescription(categoryDto.getDescription());
 
         BoardCategory updatedCategory = boardCategoryRepository.save(category);
-        System.out.println("📋 카테고리 수정 완료: " + updatedCategory.getName());
+        categoryCatalog.categorySaved(updatedCategory);
+        auditJournal.record("CATEGORY_UPDATE", "CATEGORY", updatedCategory.getId(),
+                AuditJournal.detail("name", updatedCategory.getName()));
 
         return BoardCategoryDto.fromEntity(updatedCategory);
     }
@@ -81,7 +81,8 @@ public class BoardCategoryService {
 
         String categoryName = category.getName();
         boardCategoryRepository.delete(category);
-        System.out.println("🗑️ 카테고리 삭제 완료: " + categoryName);
+        categoryCatalog.categoryDeleted(id);
+        auditJournal.record("CATEGORY_DELETE", "CATEGORY", id, AuditJournal.detail("name", categoryName));
     }
 
     @Transactional
@@ -100,6 +101,6 @@ public class BoardCategoryService {
                 .name(name)
                 .description(description)
                 .build();
-        boardCategoryRepository.save(category);
+        categoryCatalog.categorySaved(boardCategoryRepository.save(category));
     }
 }
\ No newline at end of file
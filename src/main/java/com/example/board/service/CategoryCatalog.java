@@ -0,0 +1,274 @@
+package com.example.board.service;
+
+import com.example.board.dto.BoardCategoryDto;
+import com.example.board.entity.BoardCategory;
+import com.example.board.repository.BoardCategoryRepository;
+import com.example.board.repository.CommentRepository;
+import com.example.board.repository.PostRepository;
+import com.example.board.util.TransactionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 게시판 목록과 게시판별 통계 (메모리)
+ * 게시판 정보는 변경 불가능한 스냅샷으로 두고 생성/수정/삭제가 커밋되면 새 스냅샷으로 교체한다.
+ * 글 수, 댓글 수, 마지막 글 작성 시각은 시작 시 GROUP BY 집계로 채우고 이후에는 커밋 후 증감한다.
+ */
+@Component
+public class CategoryCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(CategoryCatalog.class);
+
+    private final BoardCategoryRepository boardCategoryRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of());
+    private volatile boolean loaded;
+
+    @Autowired
+    public CategoryCatalog(BoardCategoryRepository boardCategoryRepository,
+                           PostRepository postRepository,
+                           CommentRepository commentRepository) {
+        this.boardCategoryRepository = boardCategoryRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * DB 에서 다시 읽음 (게시판 1회 + 게시판별 글 집계 1회 + 게시판별 댓글 집계 1회)
+     */
+    public synchronized void reload() {
+        Map<Long, CategoryStats> stats = new HashMap<>();
+        for (Object[] row : postRepository.countPostsByCategory()) {
+            CategoryStats categoryStats = stats.computeIfAbsent((Long) row[0], id -> new CategoryStats());
+            categoryStats.postCount.set((Long) row[1]);
+            categoryStats.lastPostDate.set(truncate((LocalDateTime) row[2]));
+        }
+        for (Object[] row : commentRepository.countActiveCommentsByCategory()) {
+            stats.computeIfAbsent((Long) row[0], id -> new CategoryStats()).commentCount.set((Long) row[1]);
+        }
+
+        Map<Long, Entry> entries = new TreeMap<>();
+        for (BoardCategory category : boardCategoryRepository.findAll()) {
+            entries.put(category.getId(), new Entry(category.getId(), category.getName(),
+                    category.getDescription(), stats.getOrDefault(category.getId(), new CategoryStats())));
+        }
+        snapshot = new Snapshot(entries);
+        loaded = true;
+        logger.info("게시판 {}개 로드", entries.size());
+    }
+
+    /**
+     * 게시판 목록 (id 순, 통계 포함)
+     */
+    public List<BoardCategoryDto> getCategories() {
+        return current().entries().values().stream()
+                .map(Entry::toDto)
+                .collect(Collectors.toList());
+    }
+
+    public BoardCategoryDto getCategoryDto(Long id) {
+        return find(id).toDto();
+    }
+
+    /**
+     * 게시글 연결용 게시판 엔티티 (DB 조회 없이 스냅샷 값으로 만든 분리 상태 객체, 수정하지 말 것)
+     */
+    public BoardCategory getCategory(Long id) {
+        Entry entry = find(id);
+        return BoardCategory.builder()
+                .id(entry.id())
+                .name(entry.name())
+                .description(entry.description())
+                .build();
+    }
+
+    public boolean isNameTaken(String name, Long exceptId) {
+        return current().entries().values().stream()
+                .anyMatch(entry -> entry.name().equals(name) && !entry.id().equals(exceptId));
+    }
+
+    // ================================
+    // 변경 알림 (커밋 후 반영)
+    // ================================
+
+    public void categorySaved(BoardCategory category) {
+        Long id = category.getId();
+        String name = category.getName();
+        String description = category.getDescription();
+        afterCommit(() -> swap(entries -> {
+            Entry previous = entries.get(id);
+            CategoryStats stats = previous != null ? previous.stats() : new CategoryStats();
+            entries.put(id, new Entry(id, name, description, stats));
+        }));
+    }
+
+    public void categoryDeleted(Long id) {
+        afterCommit(() -> swap(entries -> entries.remove(id)));
+    }
+
+    public void postCreated(Long categoryId, LocalDateTime createdDate) {
+        if (categoryId == null) {
+            return;
+        }
+        LocalDateTime postDate = truncate(createdDate);
+        afterCommit(() -> stats(categoryId).postAdded(postDate));
+    }
+
+    /**
+     * 게시글 삭제 (삭제 후 같은 트랜잭션 안에서 호출)
+     * 마지막 글이 삭제되면 남은 글 중 최신 작성 시각을 한 번 조회한다.
+     */
+    public void postDeleted(Long categoryId, LocalDateTime createdDate, long activeComments) {
+        if (categoryId == null) {
+            return;
+        }
+        LocalDateTime postDate = truncate(createdDate);
+        LocalDateTime newLastPostDate = isLastPost(categoryId, postDate)
+                ? truncate(postRepository.findLatestCreatedDateByCategoryId(categoryId)) : null;
+        afterCommit(() -> stats(categoryId).postRemoved(activeComments, postDate, newLastPostDate));
+    }
+
+    /**
+     * 게시글의 게시판 변경 (변경 후 같은 트랜잭션 안에서 호출)
+     */
+    public void postMoved(Long fromCategoryId, Long toCategoryId, LocalDateTime createdDate, long activeComments) {
+        postDeleted(fromCategoryId, createdDate, activeComments);
+        if (toCategoryId != null) {
+            LocalDateTime postDate = truncate(createdDate);
+            afterCommit(() -> {
+                CategoryStats stats = stats(toCategoryId);
+                stats.postAdded(postDate);
+                stats.commentCount.addAndGet(activeComments);
+            });
+        }
+    }
+
+    public void commentAdded(Long categoryId) {
+        if (categoryId != null) {
+            afterCommit(() -> stats(categoryId).commentCount.incrementAndGet());
+        }
+    }
+
+    public void commentRemoved(Long categoryId) {
+        if (categoryId != null) {
+            afterCommit(() -> stats(categoryId).commentCount.decrementAndGet());
+        }
+    }
+
+    private boolean isLastPost(Long categoryId, LocalDateTime createdDate) {
+        LocalDateTime last = stats(categoryId).lastPostDate.get();
+        return last != null && createdDate != null && !createdDate.isBefore(last);
+    }
+
+    // DB 에 저장되는 정밀도(마이크로초)로 맞춰서 비교 (메모리에서 만든 값과 DB 에서 읽은 값이 같도록)
+    // MySQL DATETIME(6), H2 모두 나노초를 버리지 않고 반올림해서 저장한다
+    private static LocalDateTime truncate(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.plusNanos(500).truncatedTo(ChronoUnit.MICROS) : null;
+    }
+
+    // 스냅샷에 없는 게시판(삭제 직후 등)은 버리는 통계 객체 반환
+    private CategoryStats stats(Long categoryId) {
+        Entry entry = current().entries().get(categoryId);
+        return entry != null ? entry.stats() : new CategoryStats();
+    }
+
+    private Entry find(Long id) {
+        Entry entry = id != null ? current().entries().get(id) : null;
+        if (entry == null) {
+            throw new RuntimeException("카테고리를 찾을 수 없습니다: " + id);
+        }
+        return entry;
+    }
+
+    // 복사 후 수정해서 교체 (읽는 쪽은 잠금 없이 항상 완전한 스냅샷을 봄)
+    private synchronized void swap(Consumer<Map<Long, Entry>> change) {
+        Map<Long, Entry> entries = new TreeMap<>(snapshot.entries());
+        change.accept(entries);
+        snapshot = new Snapshot(entries);
+    }
+
+    private Snapshot current() {
+        if (!loaded) {
+            reload();
+        }
+        return snapshot;
+    }
+
+    // 롤백된 변경이 반영되지 않도록 커밋 후 실행 (로드 전에는 로드 시 DB 값을 읽으므로 무시)
+    private void afterCommit(Runnable action) {
+        if (loaded) {
+            TransactionUtils.afterCommit(action);
+        }
+    }
+
+    // id 순 정렬된 읽기 전용 맵
+    private record Snapshot(Map<Long, Entry> entries) {
+        private Snapshot {
+            entries = Collections.unmodifiableMap(entries);
+        }
+    }
+
+    // 게시판 정보는 변경 불가, 통계 객체는 스냅샷이 바뀌어도 이어서 사용
+    private record Entry(Long id, String name, String description, CategoryStats stats) {
+
+        BoardCategoryDto toDto() {
+            return BoardCategoryDto.builder()
+                    .id(id)
+                    .name(name)
+                    .description(description)
+                    .postCount(Math.max(0, stats.postCount.get()))
+                    .commentCount(Math.max(0, stats.commentCount.get()))
+                    .lastPostDate(stats.lastPostDate.get())
+                    .build();
+        }
+    }
+
+    private static class CategoryStats {
+        private final AtomicLong postCount = new AtomicLong();
+        private final AtomicLong commentCount = new AtomicLong();
+        private final AtomicReference<LocalDateTime> lastPostDate = new AtomicReference<>();
+
+        void postAdded(LocalDateTime createdDate) {
+            postCount.incrementAndGet();
+            if (createdDate != null) {
+                lastPostDate.accumulateAndGet(createdDate,
+                        (current, added) -> current == null || added.isAfter(current) ? added : current);
+            }
+        }
+
+        void postRemoved(long activeComments, LocalDateTime createdDate, LocalDateTime newLastPostDate) {
+            postCount.decrementAndGet();
+            commentCount.addAndGet(-activeComments);
+            // 삭제된 글이 마지막 글이었으면 삭제 트랜잭션에서 조회한 값으로 교체
+            if (createdDate != null) {
+                lastPostDate.updateAndGet(current -> Objects.equals(current, createdDate) ? newLastPostDate : current);
+            }
+        }
+    }
+}
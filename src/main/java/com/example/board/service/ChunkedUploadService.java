@@ -0,0 +1,370 @@
+package com.example.board.service;
+
+import com.example.board.diagnostics.RequestTrace;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대용량 첨부파일을 위한 재개 가능한 청크 업로드
+ * - 세션 생성 시 전체 크기만큼 파일을 미리 할당하고, 각 청크는 FileChannel 위치 지정 쓰기로 병렬 기록
+ * - 수신한 청크는 비트맵으로 관리하여 끊긴 업로드는 빠진 청크만 다시 보내면 된다
+ * - 완료 시 조립된 파일을 복사 없이 FileStorageService 의 임시 파일로 이동
+ */
+@Service
+public class ChunkedUploadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkedUploadService.class);
+
+    private static final String PART_SUFFIX = ".part";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final FileStorageService fileStorageService;
+    private final Path sessionsPath;
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    @Value("${file.chunked-upload.max-file-size:2147483648}")
+    private long maxFileSize;
+
+    @Value("${file.chunked-upload.default-chunk-size:5242880}")
+    private int defaultChunkSize;
+
+    @Value("${file.chunked-upload.max-chunk-size:16777216}")
+    private int maxChunkSize;
+
+    // 아주 작은 청크로 청크 수(비트맵 크기)가 커지지 않도록
+    @Value("${file.chunked-upload.min-chunk-size:65536}")
+    private int minChunkSize;
+
+    @Value("${file.chunked-upload.max-chunk-count:10000}")
+    private int maxChunkCount;
+
+    @Value("${file.chunked-upload.max-sessions-per-owner:5}")
+    private int maxSessionsPerOwner;
+
+    @Value("${file.chunked-upload.session-timeout-minutes:60}")
+    private long sessionTimeoutMinutes;
+
+    @Autowired
+    public ChunkedUploadService(FileSystemResource fileStorageResource, FileStorageService fileStorageService) {
+        this.fileStorageService = fileStorageService;
+        // 완료 시 rename 으로 옮길 수 있도록 업로드 디렉토리와 같은 파일시스템에 둔다
+        this.sessionsPath = fileStorageResource.getFile().toPath().toAbsolutePath().resolve("chunks");
+
+        try {
+            Files.createDirectories(sessionsPath);
+            // 재시작 전 세션의 조각 파일은 재개할 수 없으므로 정리
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(sessionsPath, "*" + PART_SUFFIX)) {
+                for (Path path : stream) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not create the directory for chunked uploads.", ex);
+        }
+    }
+
+    /**
+     * 업로드 세션 생성 (전체 크기만큼 파일 미리 할당)
+     */
+    public UploadSession createSession(String owner, String fileName, String contentType, long totalSize, Integer chunkSize) {
+        if (!StringUtils.hasText(fileName)) {
+            throw new RuntimeException("파일 이름이 필요합니다.");
+        }
+        if (totalSize <= 0 || totalSize > maxFileSize) {
+            throw new RuntimeException("허용되지 않는 파일 크기입니다: " + totalSize);
+        }
+
+        int effectiveChunkSize = chunkSize != null ? chunkSize : defaultChunkSize;
+        if (effectiveChunkSize < minChunkSize || effectiveChunkSize > maxChunkSize) {
+            throw new RuntimeException("허용되지 않는 청크 크기입니다: " + effectiveChunkSize
+                    + " (" + minChunkSize + "~" + maxChunkSize + ")");
+        }
+        // 디스크를 건드리기 전에 청크 수 확인
+        long chunkCount = (totalSize + effectiveChunkSize - 1) / effectiveChunkSize;
+        if (chunkCount > maxChunkCount) {
+            throw new RuntimeException("청크가 너무 많습니다: " + chunkCount + " (최대 " + maxChunkCount + "개)");
+        }
+        if (countSessions(owner) >= maxSessionsPerOwner) {
+            throw new RuntimeException("진행 중인 업로드가 너무 많습니다 (최대 " + maxSessionsPerOwner + "개).");
+        }
+
+        String sessionId = UUID.randomUUID().toString();
+        Path partFile = sessionsPath.resolve(sessionId + PART_SUFFIX);
+        FileChannel channel = null;
+
+        try {
+            try (RandomAccessFile file = new RandomAccessFile(partFile.toFile(), "rw")) {
+                file.setLength(totalSize);
+            }
+            channel = FileChannel.open(partFile, StandardOpenOption.WRITE);
+
+            UploadSession session = new UploadSession(sessionId, owner, fileName, contentType,
+                    totalSize, effectiveChunkSize, (int) chunkCount, partFile, channel);
+            // 동시에 만든 세션이 한도를 넘지 않도록 등록 시 다시 확인
+            synchronized (sessions) {
+                if (countSessions(owner) >= maxSessionsPerOwner) {
+                    throw new RuntimeException("진행 중인 업로드가 너무 많습니다 (최대 " + maxSessionsPerOwner + "개).");
+                }
+                sessions.put(sessionId, session);
+            }
+
+            logger.debug("청크 업로드 세션 생성: {} ({} bytes, {}개 청크)", sessionId, totalSize, chunkCount);
+            return session;
+        } catch (IOException | RuntimeException ex) {
+            closeQuietly(channel);
+            deleteQuietly(partFile);
+            if (ex instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Could not create upload session for " + fileName, ex);
+        }
+    }
+
+    private long countSessions(String owner) {
+        return sessions.values().stream().filter(session -> session.getOwner().equals(owner)).count();
+    }
+
+    /**
+     * 청크 기록 (같은 청크를 다시 보내도 덮어쓰므로 재시도 안전)
+     */
+    public UploadSession writeChunk(String owner, String sessionId, int chunkIndex, InputStream inputStream) {
+        UploadSession session = getSession(owner, sessionId);
+
+        if (chunkIndex < 0 || chunkIndex >= session.getChunkCount()) {
+            throw new RuntimeException("잘못된 청크 번호입니다: " + chunkIndex);
+        }
+
+        long position = (long) chunkIndex * session.getChunkSize();
+        long expectedLength = Math.min(session.getChunkSize(), session.getTotalSize() - position);
+        long written = 0;
+
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+            byte[] bytes = buffer.array();
+            int read;
+            while ((read = inputStream.read(bytes, 0, (int) Math.min(bytes.length, expectedLength - written + 1))) != -1) {
+                if (written + read > expectedLength) {
+                    throw new RuntimeException("청크 크기가 예상보다 큽니다: " + chunkIndex);
+                }
+                buffer.clear().limit(read);
+                while (buffer.hasRemaining()) {
+                    written += session.channel.write(buffer, position + written);
+                }
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not write chunk " + chunkIndex + " of session " + sessionId, ex);
+        }
+        RequestTrace.fileWritten(written);
+
+        if (written != expectedLength) {
+            throw new RuntimeException("청크 크기가 맞지 않습니다: " + written + " / " + expectedLength);
+        }
+
+        session.markReceived(chunkIndex);
+        return session;
+    }
+
+    /**
+     * 업로드 완료 - 모든 청크가 도착했으면 임시 파일로 등록하고 저장된 파일명 반환
+     */
+    public String complete(String owner, String sessionId) {
+        UploadSession session = getSession(owner, sessionId);
+
+        if (!session.isComplete()) {
+            throw new RuntimeException("아직 받지 못한 청크가 있습니다: " + session.getMissingChunks());
+        }
+        if (!sessions.remove(sessionId, session)) {
+            throw new RuntimeException("업로드 세션을 찾을 수 없습니다: " + sessionId);
+        }
+
+        try {
+            session.channel.force(false);
+            session.channel.close();
+        } catch (IOException ex) {
+            closeQuietly(session.channel);
+            deleteQuietly(session.partFile);
+            throw new RuntimeException("Could not finish upload session " + sessionId, ex);
+        }
+
+        // 세션은 이미 목록에서 빠졌으므로 (abort/만료로 정리 불가) 등록에 실패하면 여기서 파일 삭제
+        String storedFileName;
+        try {
+            storedFileName = fileStorageService.storeTemporaryFile(session.partFile, session.getFileName());
+        } catch (RuntimeException ex) {
+            deleteQuietly(session.partFile);
+            throw ex;
+        }
+        logger.debug("청크 업로드 완료: {} → {}", sessionId, storedFileName);
+        return storedFileName;
+    }
+
+    /**
+     * 업로드 취소
+     */
+    public void abort(String owner, String sessionId) {
+        UploadSession session = getSession(owner, sessionId);
+        if (sessions.remove(sessionId, session)) {
+            discard(session);
+        }
+    }
+
+    public UploadSession getSession(String owner, String sessionId) {
+        UploadSession session = sessions.get(sessionId);
+        if (session == null || !session.getOwner().equals(owner)) {
+            throw new UploadSessionNotFoundException("업로드 세션을 찾을 수 없습니다: " + sessionId);
+        }
+        session.touch();
+        return session;
+    }
+
+    /**
+     * 오랫동안 진행되지 않은 세션 정리
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void cleanupExpiredSessions() {
+        long expiredBefore = System.currentTimeMillis() - sessionTimeoutMinutes * 60 * 1000;
+        for (UploadSession session : new ArrayList<>(sessions.values())) {
+            if (session.lastAccessMillis < expiredBefore && sessions.remove(session.getId(), session)) {
+                logger.debug("만료된 청크 업로드 세션 정리: {}", session.getId());
+                discard(session);
+            }
+        }
+    }
+
+    private void discard(UploadSession session) {
+        closeQuietly(session.channel);
+        deleteQuietly(session.partFile);
+    }
+
+    private void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ex) {
+            // 이미 닫힌 채널
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            logger.warn("청크 업로드 파일 삭제 실패: {}", path, ex);
+        }
+    }
+
+    public static class UploadSessionNotFoundException extends RuntimeException {
+        public UploadSessionNotFoundException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * 업로드 세션 상태
+     */
+    public static class UploadSession {
+
+        private final String id;
+        private final String owner;
+        private final String fileName;
+        private final String contentType;
+        private final long totalSize;
+        private final int chunkSize;
+        private final int chunkCount;
+        private final Path partFile;
+        // 위치 지정 쓰기는 스레드 안전하므로 병렬 청크가 하나의 채널을 공유한다
+        private final FileChannel channel;
+        private final BitSet receivedChunks;
+        private volatile long lastAccessMillis = System.currentTimeMillis();
+
+        UploadSession(String id, String owner, String fileName, String contentType,
+                      long totalSize, int chunkSize, int chunkCount, Path partFile, FileChannel channel) {
+            this.id = id;
+            this.owner = owner;
+            this.fileName = fileName;
+            this.contentType = contentType;
+            this.totalSize = totalSize;
+            this.chunkSize = chunkSize;
+            this.chunkCount = chunkCount;
+            this.partFile = partFile;
+            this.channel = channel;
+            this.receivedChunks = new BitSet(chunkCount);
+        }
+
+        synchronized void markReceived(int chunkIndex) {
+            receivedChunks.set(chunkIndex);
+        }
+
+        void touch() {
+            lastAccessMillis = System.currentTimeMillis();
+        }
+
+        public synchronized boolean isComplete() {
+            return receivedChunks.cardinality() == chunkCount;
+        }
+
+        public synchronized int getReceivedCount() {
+            return receivedChunks.cardinality();
+        }
+
+        public synchronized List<Integer> getMissingChunks() {
+            List<Integer> missing = new ArrayList<>();
+            for (int i = receivedChunks.nextClearBit(0); i < chunkCount; i = receivedChunks.nextClearBit(i + 1)) {
+                missing.add(i);
+            }
+            return missing;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getOwner() {
+            return owner;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public long getTotalSize() {
+            return totalSize;
+        }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public int getChunkCount() {
+            return chunkCount;
+        }
+    }
+}
@@ -8,16 +8,18 @@ import com.example.board.entity.UserRole;
 import com.example.board.repository.CommentRepository;
 import com.example.board.repository.PostRepository;
 import com.example.board.repository.UserRepository;
+import com.example.board.security.CurrentUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 public class CommentService {
@@ -25,36 +27,74 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final CategoryCatalog categoryCatalog;
+    private final AuditJournal auditJournal;
+
+    private final DistributionSummary treeSize;
+    private final Counter commentCounter;
+    private final Counter replyCounter;
 
     @Autowired
     public CommentService(CommentRepository commentRepository,
                           PostRepository postRepository,
-                          UserRepository userRepository) {
+                          UserRepository userRepository,
+                          CategoryCatalog categoryCatalog,
+                          AuditJournal auditJournal,
+                          MeterRegistry meterRegistry) {
         this.commentRepository = commentRepository;
         this.postRepository = postRepository;
         this.userRepository = userRepository;
+        this.categoryCatalog = categoryCatalog;
+        this.auditJournal = auditJournal;
+
+        this.treeSize = DistributionSummary.builder("board.comment.tree.size")
+                .description("게시글 댓글 조회 시 한 번에 읽은 댓글 수")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(10_000.0)
+                .register(meterRegistry);
+        this.commentCounter = Counter.builder("board.comment.writes")
+                .tag("type", "comment")
+                .register(meterRegistry);
+        this.replyCounter = Counter.builder("board.comment.writes")
+                .tag("type", "reply")
+                .register(meterRegistry);
     }
 
     // 특정 게시글의 댓글 목록 조회 (계층 구조)
     @Transactional(readOnly = true)
     public List<CommentDto> getCommentsByPost(Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다: " + postId));
+        if (!postRepository.existsById(postId)) {
+            throw new RuntimeException("게시글을 찾을 수 없습니다: " + postId);
+        }
 
-        // 최상위 댓글들만 조회
-        List<Comment> topLevelComments = commentRepository
-                .findByPostAndParentIsNullAndDeletedFalseOrderByCreatedDateAsc(post);
+        // 삭제되지 않은 댓글 전체를 작성자와 함께 한 번에 읽고 트리 구성
+        // (삭제된 댓글 아래의 대댓글은 기존처럼 표시하지 않음)
+        List<Comment> comments = commentRepository.findTreeByPostId(postId);
+        treeSize.record(comments.size());
+        Map<Long, CommentDto> byId = new LinkedHashMap<>();
+        for (Comment comment : comments) {
+            byId.put(comment.getId(), CommentDto.fromEntitySimple(comment));
+        }
 
-        return topLevelComments.stream()
-                .map(CommentDto::fromEntity)
-                .collect(Collectors.toList());
+        List<CommentDto> topLevelComments = new ArrayList<>();
+        for (CommentDto comment : byId.values()) {
+            if (comment.getParentId() == null) {
+                topLevelComments.add(comment);
+            } else {
+                CommentDto parent = byId.get(comment.getParentId());
+                if (parent != null) {
+                    parent.getChildren().add(comment);
+                }
+            }
+        }
+        return topLevelComments;
     }
 
     // 댓글 생성
     @Transactional
     public CommentDto createComment(Long postId, CommentDto.CreateRequest request) {
         // 현재 사용자 가져오기
-        User currentUser = getCurrentUser();
+        CurrentUser currentUser = getCurrentUser();
         if (currentUser == null) {
             throw new RuntimeException("로그인이 필요합니다.");
         }
@@ -75,21 +115,27 @@ public class CommentService {
             }
         }
 
+        // 응답의 닉네임은 토큰이 아닌 User 에서 읽음 (닉네임 변경 직후에도 맞는 값, 2차 캐시라 보통 쿼리 없음)
+        User user = userRepository.findById(currentUser.getId())
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
         // 댓글 생성
         Comment comment = Comment.builder()
                 .content(request.getContent())
-                .user(currentUser)
+                .user(user)
                 .post(post)
                 .parent(parentComment)
                 .deleted(false)
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        categoryCatalog.commentAdded(categoryIdOf(post));
+        (parentComment != null ? replyCounter : commentCounter).increment();
+        auditJournal.record("COMMENT_CREATE", "COMMENT", savedComment.getId(), AuditJournal.detail(
+                "postId", postId,
+                "parentId", request.getParentId()));
 
-        System.out.println("💬 댓글 작성 완료: " + currentUser.getNickname() +
-                (parentComment != null ? " (대댓글)" : " (댓글)"));
-
-        return CommentDto.fromEntitySimple(savedComment);
+        return CommentDto.fromEntitySimple(savedComment, user.getId(), user.getUsername(), user.getNickname());
     }
 
     // 댓글 수정
@@ -98,7 +144,7 @@ public class CommentService {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다: " + commentId));
 
-        User currentUser = getCurrentUser();
+        CurrentUser currentUser = getCurrentUser();
         if (!isAllowedToModifyComment(currentUser, comment)) {
             throw new RuntimeException("댓글을 수정할 권한이 없습니다.");
         }
@@ -109,8 +155,8 @@ public class CommentService {
 
         comment.setContent(request.getContent());
         Comment updatedComment = commentRepository.save(comment);
-
-        System.out.println("✏️ 댓글 수정 완료: " + currentUser.getNickname());
+        auditJournal.record("COMMENT_UPDATE", "COMMENT", commentId, AuditJournal.detail(
+                "authorId", comment.getUser() != null ? comment.getUser().getId() : null));
 
         return CommentDto.fromEntitySimple(updatedComment);
     }
@@ -118,20 +164,25 @@ public class CommentService {
     // 댓글 삭제 (소프트 삭제)
     @Transactional
     public void deleteComment(Long commentId) {
-        Comment comment = commentRepository.findById(commentId)
+        Comment comment = commentRepository.findWithPostById(commentId)
                 .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다: " + commentId));
 
-        User currentUser = getCurrentUser();
+        CurrentUser currentUser = getCurrentUser();
         if (!isAllowedToModifyComment(currentUser, comment)) {
             throw new RuntimeException("댓글을 삭제할 권한이 없습니다.");
         }
 
+        if (!comment.isDeleted()) {
+            categoryCatalog.commentRemoved(categoryIdOf(comment.getPost()));
+        }
+
         // 소프트 삭제 처리
         comment.setDeleted(true);
         comment.setContent(""); // 내용 삭제
         commentRepository.save(comment);
-
-        System.out.println("🗑️ 댓글 삭제 완료: " + currentUser.getNickname());
+        auditJournal.record("COMMENT_DELETE", "COMMENT", commentId, AuditJournal.detail(
+                "postId", comment.getPost().getId(),
+                "authorId", comment.getUser() != null ? comment.getUser().getId() : null));
     }
 
     // 댓글 수 조회
@@ -143,22 +194,18 @@ public class CommentService {
         return commentRepository.countByPostAndDeletedFalse(post);
     }
 
+    // 게시판 id (지연 로딩 프록시의 id 는 조회 없이 읽힘)
+    private Long categoryIdOf(Post post) {
+        return post.getCategory() != null ? post.getCategory().getId() : null;
+    }
+
     // 현재 사용자 가져오기
-    private User getCurrentUser() {
-        try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth != null && auth.isAuthenticated() &&
-                    !auth.getPrincipal().equals("anonymousUser")) {
-                return userRepository.findByUsername(auth.getName()).orElse(null);
-            }
-        } catch (Exception e) {
-            System.out.println("⚠️ 사용자 인증 정보 확인 실패: " + e.getMessage());
-        }
-        return null;
+    private CurrentUser getCurrentUser() {
+        return CurrentUser.get().orElse(null);
     }
 
     // 댓글 수정/삭제 권한 확인
-    private boolean isAllowedToModifyComment(User user, Comment comment) {
+    private boolean isAllowedToModifyComment(CurrentUser user, Comment comment) {
         if (user == null) return false;
 
         // 매니저는 모든 댓글 수정/삭제 가능
@@ -1,37 +1,49 @@
 // src/main/java/com/example/board/service/FileStorageService.java (수정)
 package com.example.board.service;
 
+import com.example.board.diagnostics.RequestTrace;
+import com.example.board.storage.StorageBackend;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.Objects;
 import java.util.UUID;
 
 @Service
 public class FileStorageService {
 
+    private static final String PROFILE_DIRECTORY = "profiles";
+    private static final String POST_DIRECTORY = "posts";
+    private static final String TEMP_DIRECTORY = "temp";
+
+    private final StorageBackend storageBackend;
     private final Path fileStorageLocation;
     private final Path profileImagesPath;
     private final Path postAttachmentsPath;
     private final Path tempFilesPath;
 
+    private final MeterRegistry meterRegistry;
+
     @Autowired
-    public FileStorageService(FileSystemResource fileStorageResource) {
+    public FileStorageService(FileSystemResource fileStorageResource, StorageBackend storageBackend,
+                              MeterRegistry meterRegistry) {
+        this.storageBackend = storageBackend;
+        this.meterRegistry = meterRegistry;
         this.fileStorageLocation = Paths.get(fileStorageResource.getFile().getAbsolutePath());
-        this.profileImagesPath = this.fileStorageLocation.resolve("profiles");
-        this.postAttachmentsPath = this.fileStorageLocation.resolve("posts");
-        this.tempFilesPath = this.fileStorageLocation.resolve("temp");
+        this.profileImagesPath = this.fileStorageLocation.resolve(PROFILE_DIRECTORY);
+        this.postAttachmentsPath = this.fileStorageLocation.resolve(POST_DIRECTORY);
+        this.tempFilesPath = this.fileStorageLocation.resolve(TEMP_DIRECTORY);
 
         try {
             Files.createDirectories(this.fileStorageLocation);
@@ -47,27 +59,47 @@ public class FileStorageService {
      * 프로필 이미지 저장
      */
     public String storeProfileImage(MultipartFile file, Long userId) {
-        return storeFile(file, profileImagesPath, "profile_" + userId + "_");
+        return storeFile(file, PROFILE_DIRECTORY, "profile_" + userId + "_");
     }
 
     /**
      * 게시글 첨부파일 저장
      */
     public String storePostAttachment(MultipartFile file, Long postId) {
-        return storeFile(file, postAttachmentsPath, "post_" + postId + "_");
+        return storeFile(file, POST_DIRECTORY, "post_" + postId + "_");
     }
 
     /**
      * 임시 파일 저장 (게시글 작성 전)
      */
     public String storeTemporaryFile(MultipartFile file) {
-        return storeFile(file, tempFilesPath, "temp_");
+        return storeFile(file, TEMP_DIRECTORY, "temp_");
+    }
+
+    /**
+     * 디스크에 이미 만들어진 파일을 임시 파일로 등록 (청크 업로드 완료 시, 복사 없이 이동)
+     */
+    public String storeTemporaryFile(Path source, String originalFilename) {
+        String cleanFilename = StringUtils.cleanPath(Objects.requireNonNull(originalFilename));
+        if (cleanFilename.contains("..")) {
+            throw new RuntimeException("Filename contains invalid path sequence: " + cleanFilename);
+        }
+
+        String newFilename = "temp_" + UUID.randomUUID().toString() + getFileExtension(cleanFilename);
+        try {
+            long size = Files.size(source);
+            storageBackend.storeFile(TEMP_DIRECTORY, newFilename, source);
+            recordUpload(TEMP_DIRECTORY, size);
+            return newFilename;
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not store file " + cleanFilename, ex);
+        }
     }
 
     /**
      * 파일 저장 공통 로직
      */
-    private String storeFile(MultipartFile file, Path targetPath, String filePrefix) {
+    private String storeFile(MultipartFile file, String directory, String filePrefix) {
         // 파일명 정규화
         String originalFilename = StringUtils.cleanPath(Objects.requireNonNull(file.getOriginalFilename()));
 
@@ -81,14 +113,12 @@ public class FileStorageService {
             String fileExtension = getFileExtension(originalFilename);
             String newFilename = filePrefix + UUID.randomUUID().toString() + fileExtension;
 
-            // 타겟 디렉토리가 없으면 생성
-            if (!Files.exists(targetPath)) {
-                Files.createDirectories(targetPath);
-            }
-
             // 파일 저장
-            Path targetLocation = targetPath.resolve(newFilename);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            try (InputStream inputStream = file.getInputStream()) {
+                storageBackend.store(directory, newFilename, inputStream, file.getSize());
+            }
+            recordUpload(directory, file.getSize());
+            RequestTrace.fileWritten(file.getSize());
 
             return newFilename;
         } catch (IOException ex) {
@@ -96,6 +126,17 @@ public class FileStorageService {
         }
     }
 
+    /**
+     * 저장된 업로드 크기 기록 (디렉토리별 건수/합계/최대)
+     */
+    private void recordUpload(String directory, long size) {
+        DistributionSummary.builder("board.upload.size")
+                .baseUnit("bytes")
+                .tag("directory", directory)
+                .register(meterRegistry)
+                .record(size);
+    }
+
     /**
      * 파일 확장자 추출
      */
@@ -111,53 +152,31 @@ public class FileStorageService {
      * 프로필 이미지 조회
      */
     public Resource loadProfileImage(String filename) {
-        return loadFileAsResource(profileImagesPath.resolve(filename));
+        return traced(storageBackend.load(PROFILE_DIRECTORY, filename));
     }
 
     /**
      * 게시글 첨부파일 조회
      */
     public Resource loadPostAttachment(String filename) {
-        return loadFileAsResource(postAttachmentsPath.resolve(filename));
+        return traced(storageBackend.load(POST_DIRECTORY, filename));
     }
 
     /**
      * 임시 파일 조회
      */
     public Resource loadFileAsResource(String type, String filename) {
-        Path basePath;
-
-        switch(type) {
-            case "profile":
-                basePath = profileImagesPath;
-                break;
-            case "post":
-                basePath = postAttachmentsPath;
-                break;
-            case "temp":
-                basePath = tempFilesPath;
-                break;
-            default:
-                basePath = fileStorageLocation;
-        }
-
-        return loadFileAsResource(basePath.resolve(filename));
+        return traced(storageBackend.load(resolveDirectory(type), filename));
     }
 
-    /**
-     * 파일 로드 공통 로직
-     */
-    public Resource loadFileAsResource(Path filePath) {
+    // 요청 성능 기록에 읽을 파일 크기 누적 (크기를 모르면 생략)
+    private Resource traced(Resource resource) {
         try {
-            Resource resource = new UrlResource(filePath.toUri());
-            if (resource.exists()) {
-                return resource;
-            } else {
-                throw new RuntimeException("File not found: " + filePath);
-            }
-        } catch (MalformedURLException ex) {
-            throw new RuntimeException("File not found: " + filePath, ex);
+            RequestTrace.fileRead(resource.contentLength());
+        } catch (IOException ex) {
+            // 크기만 확인하는 것이므로 무시
         }
+        return resource;
     }
 
     /**
@@ -165,20 +184,23 @@ public class FileStorageService {
      */
     public boolean deleteFile(String filename, String fileType) {
         try {
-            Path filePath;
-            if ("profile".equals(fileType)) {
-                filePath = profileImagesPath.resolve(filename);
-            } else if ("post".equals(fileType)) {
-                filePath = postAttachmentsPath.resolve(filename);
-            } else if ("temp".equals(fileType)) {
-                filePath = tempFilesPath.resolve(filename);
-            } else {
-                filePath = fileStorageLocation.resolve(filename);
-            }
-
-            return Files.deleteIfExists(filePath);
-        } catch (IOException e) {
+            return storageBackend.delete(resolveDirectory(fileType), filename);
+        } catch (IOException | RuntimeException e) {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 파일 타입 → 저장소 디렉토리 이름
+     */
+    private String resolveDirectory(String fileType) {
+        if ("profile".equals(fileType)) {
+            return PROFILE_DIRECTORY;
+        } else if ("post".equals(fileType)) {
+            return POST_DIRECTORY;
+        } else if ("temp".equals(fileType)) {
+            return TEMP_DIRECTORY;
+        }
+        return "";
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.board.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그인 실패 횟수 제한 (사용자명+IP 별, IP 별 고정 시간 창)
+ * 키마다 long 하나에 창 시작 시각(epoch 초, 상위 32비트)과 실패 횟수(하위 32비트)를 담아 메모리를 적게 쓴다.
+ * 제한을 넘으면 비밀번호 해시 전에 바로 거절하므로 무차별 대입이 CPU 를 소모하지 못한다.
+ * 사용자명만으로 막으면 누구나 다른 사람(manager 등)의 계정을 잠글 수 있으므로 사용자명은 항상 IP 와 함께 센다.
+ * (프록시 뒤에서는 server.forward-headers-strategy 로 실제 클라이언트 IP 를 받아야 함)
+ */
+@Component
+public class LoginAttemptThrottle {
+
+    // 가득 찼을 때 한 번에 살펴보는 항목 수 (요청 스레드에서 전체를 훑지 않도록)
+    private static final int EVICTION_SCAN_LIMIT = 64;
+    private static final String IP_PREFIX = "ip:";
+
+    private final ConcurrentHashMap<String, Long> attempts = new ConcurrentHashMap<>();
+
+    private final int maxFailuresPerUsernameAndIp;
+    private final int maxFailuresPerIp;
+    private final long windowSeconds;
+    private final int maxEntries;
+
+    public LoginAttemptThrottle(
+            @Value("${security.login-throttle.max-failures-per-username-and-ip:5}") int maxFailuresPerUsernameAndIp,
+            @Value("${security.login-throttle.max-failures-per-ip:20}") int maxFailuresPerIp,
+            @Value("${security.login-throttle.window-seconds:900}") long windowSeconds,
+            @Value("${security.login-throttle.max-entries:100000}") int maxEntries) {
+        this.maxFailuresPerUsernameAndIp = maxFailuresPerUsernameAndIp;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.windowSeconds = windowSeconds;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 로그인 시도 가능 여부 확인 (제한 초과 시 TooManyRequestsException)
+     */
+    public void checkAllowed(String username, String clientIp) {
+        long now = nowSeconds();
+        long retryAfter = Math.max(
+                retryAfterSeconds(usernameKey(username, clientIp), maxFailuresPerUsernameAndIp, now),
+                retryAfterSeconds(ipKey(clientIp), maxFailuresPerIp, now));
+        if (retryAfter > 0) {
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfter);
+        }
+    }
+
+    public void recordFailure(String username, String clientIp) {
+        long now = nowSeconds();
+        increment(usernameKey(username, clientIp), now);
+        increment(ipKey(clientIp), now);
+    }
+
+    /**
+     * 로그인 성공 시 사용자명+IP 기준 실패 기록 초기화 (IP 기준은 유지)
+     */
+    public void recordSuccess(String username, String clientIp) {
+        attempts.remove(usernameKey(username, clientIp));
+    }
+
+    /**
+     * 시간 창이 지난 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${security.login-throttle.cleanup-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = nowSeconds();
+        attempts.values().removeIf(packed -> windowStart(packed) + windowSeconds <= now);
+    }
+
+    private long retryAfterSeconds(String key, int maxFailures, long now) {
+        if (key == null) {
+            return 0;
+        }
+        Long packed = attempts.get(key);
+        if (packed == null || failures(packed) < maxFailures) {
+            return 0;
+        }
+        long windowEnd = windowStart(packed) + windowSeconds;
+        return Math.max(0, windowEnd - now);
+    }
+
+    private void increment(String key, long now) {
+        if (key == null) {
+            return;
+        }
+        // 가득 차면 일부만 살펴 자리를 만든다
+        // IP 키는 항상 기록하고 (사용자명+IP 키를 밀어냄), 사용자명+IP 키는 만료된 자리가 없으면 기록하지 않음
+        // → 무작위 사용자명으로 채워도 IP 제한은 유지됨
+        if (attempts.size() >= maxEntries && !attempts.containsKey(key)) {
+            boolean ipKey = key.startsWith(IP_PREFIX);
+            evict(now, ipKey);
+            if (!ipKey && attempts.size() >= maxEntries) {
+                return;
+            }
+        }
+        attempts.merge(key, pack(now, 1), (current, ignored) -> {
+            if (windowStart(current) + windowSeconds <= now) {
+                return pack(now, 1);
+            }
+            return pack(windowStart(current), failures(current) + 1);
+        });
+    }
+
+    // 살펴본 항목 중 만료된 것을 모두 지우고, 없으면 (force 일 때) 가장 오래된 사용자명+IP 키 하나를 지움
+    private void evict(long now, boolean force) {
+        String oldestKey = null;
+        long oldestWindowStart = Long.MAX_VALUE;
+        boolean oldestIsIp = true;
+        boolean removed = false;
+        Iterator<Map.Entry<String, Long>> iterator = attempts.entrySet().iterator();
+        for (int scanned = 0; scanned < EVICTION_SCAN_LIMIT && iterator.hasNext(); scanned++) {
+            Map.Entry<String, Long> entry = iterator.next();
+            long windowStart = windowStart(entry.getValue());
+            boolean ip = entry.getKey().startsWith(IP_PREFIX);
+            if (windowStart + windowSeconds <= now) {
+                iterator.remove();
+                removed = true;
+            } else if ((oldestIsIp && !ip) || (ip == oldestIsIp && windowStart < oldestWindowStart)) {
+                oldestWindowStart = windowStart;
+                oldestKey = entry.getKey();
+                oldestIsIp = ip;
+            }
+        }
+        if (!removed && force && oldestKey != null) {
+            attempts.remove(oldestKey);
+        }
+    }
+
+    private static long pack(long windowStart, int failures) {
+        return (windowStart << 32) | (failures & 0xffffffffL);
+    }
+
+    private static long windowStart(long packed) {
+        return packed >>> 32;
+    }
+
+    private static int failures(long packed) {
+        return (int) packed;
+    }
+
+    private static long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    private static String usernameKey(String username, String clientIp) {
+        return username != null ? "u:" + username.toLowerCase() + "@" + clientIp : null;
+    }
+
+    private static String ipKey(String clientIp) {
+        return clientIp != null ? IP_PREFIX + clientIp : null;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.board.service;
+
+import com.example.board.repository.UserRepository;
+import com.example.board.util.BloomFilter;
+import com.example.board.util.TransactionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 닉네임 사용 여부 확인과 중복 없는 닉네임 할당
+ * 사용 중인 닉네임을 Bloom filter 로 들고 있다가 "있을 수도 있음" 일 때만 DB 를 확인한다.
+ * 변경/삭제된 닉네임은 필터에서 지울 수 없어 오탐으로 남지만 DB 확인으로 걸러지고, 추가가 많아지면 다시 만든다.
+ * 필터는 이 인스턴스에서 등록된 닉네임만 알기 때문에 isAvailable 은 안내용(/nickname-available)으로만 쓰고,
+ * 실제 변경 시에는 DB 로 확인한다.
+ */
+@Component
+public class NicknameRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(NicknameRegistry.class);
+
+    private static final int LOAD_BATCH_SIZE = 5000;
+
+    private final UserRepository userRepository;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    // 다시 읽는 중인 필터 (읽는 동안 들어온 닉네임도 반영)
+    private volatile BloomFilter pending;
+    private volatile long capacity;
+    private final AtomicLong insertions = new AtomicLong();
+
+    @Autowired
+    public NicknameRegistry(UserRepository userRepository,
+                            @Value("${user.nickname.bloom-expected-insertions:100000}") int expectedInsertions,
+                            @Value("${user.nickname.bloom-false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * 전체 닉네임을 id 순으로 나눠 읽어 필터를 새로 만든다
+     */
+    public synchronized void reload() {
+        long userCount = userRepository.count();
+        long size = Math.max(expectedInsertions, userCount * 2);
+        BloomFilter next = BloomFilter.create((int) Math.min(size, Integer.MAX_VALUE), falsePositiveRate);
+        pending = next;
+
+        long loaded = 0;
+        long afterId = 0;
+        List<Object[]> rows;
+        do {
+            rows = userRepository.findNicknamesAfter(afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (Object[] row : rows) {
+                afterId = (Long) row[0];
+                if (row[1] != null) {
+                    next.put(normalize((String) row[1]));
+                    loaded++;
+                }
+            }
+        } while (rows.size() == LOAD_BATCH_SIZE);
+
+        filter = next;
+        pending = null;
+        capacity = size;
+        insertions.set(loaded);
+        logger.info("닉네임 필터 로드: {}개 (용량 {})", loaded, size);
+    }
+
+    /**
+     * 추가가 용량을 넘어 오탐률이 높아졌으면 다시 만든다
+     */
+    @Scheduled(fixedDelayString = "${user.nickname.rebuild-check-interval-ms:600000}")
+    public void rebuildIfSaturated() {
+        if (filter != null && insertions.get() > capacity) {
+            reload();
+        }
+    }
+
+    /**
+     * 닉네임 사용 가능 여부 안내 (필터에 없으면 DB 조회 없이 true, 다른 인스턴스의 최근 등록은 놓칠 수 있음)
+     */
+    public boolean isAvailable(String nickname) {
+        if (nickname == null || nickname.trim().isEmpty()) {
+            return false;
+        }
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(normalize(nickname))) {
+            return true;
+        }
+        return !userRepository.existsByNickname(nickname);
+    }
+
+    /**
+     * 사용 중이지 않은 닉네임 할당 (base, base1, base2 ... 중 가장 작은 번호)
+     * base 로 시작하는 닉네임을 한 번에 읽어서 메모리에서 빈 번호를 찾는다.
+     */
+    public String allocate(String baseNickname) {
+        String escaped = baseNickname.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+        Set<String> taken = new HashSet<>();
+        for (String nickname : userRepository.findNicknamesStartingWith(escaped)) {
+            taken.add(normalize(nickname));
+        }
+
+        String base = normalize(baseNickname);
+        if (!taken.contains(base)) {
+            return baseNickname;
+        }
+        int counter = 1;
+        while (taken.contains(base + counter)) {
+            counter++;
+        }
+        return baseNickname + counter;
+    }
+
+    /**
+     * 새로 사용된 닉네임 반영 (커밋 후)
+     */
+    public void registered(String nickname) {
+        if (nickname == null) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            String key = normalize(nickname);
+            // 읽은 직후 reload 가 필터를 바꾸고 pending 을 비웠으면 새 필터에도 넣는다
+            BloomFilter current = filter;
+            while (true) {
+                if (current != null) {
+                    current.put(key);
+                }
+                BloomFilter reloading = pending;
+                if (reloading != null) {
+                    reloading.put(key);
+                }
+                BloomFilter latest = filter;
+                if (latest == current) {
+                    break;
+                }
+                current = latest;
+            }
+            insertions.incrementAndGet();
+        });
+    }
+
+    // DB 콜레이션이 대소문자를 구분하지 않으므로 소문자로 비교
+    private static String normalize(String nickname) {
+        return nickname.toLowerCase(Locale.ROOT);
+    }
+}
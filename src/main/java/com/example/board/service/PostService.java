@@ -7,13 +7,16 @@ import com.example.board.entity.Post;
 import com.example.board.entity.PostAttachment;
 import com.example.board.entity.User;
 import com.example.board.entity.UserRole;
-import com.example.board.repository.BoardCategoryRepository;
+import com.example.board.repository.CommentRepository;
 import com.example.board.repository.PostAttachmentRepository;
 import com.example.board.repository.PostRepository;
 import com.example.board.repository.UserRepository;
+import com.example.board.security.CurrentUser;
+import com.example.board.util.TransactionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -26,22 +29,47 @@ import java.util.stream.Collectors;
 public class PostService {
 
     private final PostRepository postRepository;
-    private final BoardCategoryRepository boardCategoryRepository;
+    private final CategoryCatalog categoryCatalog;
     private final UserRepository userRepository;
     private final PostAttachmentRepository attachmentRepository;
+    private final CommentRepository commentRepository;
     private final FileStorageService fileStorageService;
+    private final AuditJournal auditJournal;
+
+    private final Counter viewCounter;
+    private final Counter createdCounter;
+    private final Counter deletedCounter;
+    private final DistributionSummary attachmentsPerPost;
 
     @Autowired
     public PostService(PostRepository postRepository,
-                       BoardCategoryRepository boardCategoryRepository,
+                       CategoryCatalog categoryCatalog,
                        UserRepository userRepository,
                        PostAttachmentRepository attachmentRepository,
-                       FileStorageService fileStorageService) {
+                       CommentRepository commentRepository,
+                       FileStorageService fileStorageService,
+                       AuditJournal auditJournal,
+                       MeterRegistry meterRegistry) {
         this.postRepository = postRepository;
-        this.boardCategoryRepository = boardCategoryRepository;
+        this.categoryCatalog = categoryCatalog;
         this.userRepository = userRepository;
         this.attachmentRepository = attachmentRepository;
+        this.commentRepository = commentRepository;
         this.fileStorageService = fileStorageService;
+        this.auditJournal = auditJournal;
+
+        this.viewCounter = Counter.builder("board.post.views")
+                .description("조회수 증가(게시글 UPDATE) 횟수")
+                .register(meterRegistry);
+        this.createdCounter = Counter.builder("board.post.writes")
+                .tag("operation", "create")
+                .register(meterRegistry);
+        this.deletedCounter = Counter.builder("board.post.writes")
+                .tag("operation", "delete")
+                .register(meterRegistry);
+        this.attachmentsPerPost = DistributionSummary.builder("board.post.attachments")
+                .description("게시글 작성/수정 시 추가된 첨부파일 수")
+                .register(meterRegistry);
     }
 
     // 모든 게시글 목록 조회
@@ -56,8 +84,8 @@ public class PostService {
     // 카테고리별 게시글 목록 조회
     @Transactional(readOnly = true)
     public List<PostDto> getPostsByCategory(Long categoryId) {
-        BoardCategory category = boardCategoryRepository.findById(categoryId)
-                .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다: " + categoryId));
+        // 게시판 존재 확인은 메모리 스냅샷으로 (DB 조회 없음)
+        BoardCategory category = categoryCatalog.getCategory(categoryId);
 
         return postRepository.findByCategoryOrderByCreatedDateDesc(category)
                 .stream()
@@ -68,49 +96,50 @@ public class PostService {
     // 게시글 상세 조회 (조회수 증가 추가)
     @Transactional
     public PostDto getPost(Long id) {
-        Post post = postRepository.findById(id)
+        Post post = postRepository.findDetailById(id)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다: " + id));
 
         // 조회수 증가
         post.incrementViewCount();
         post = postRepository.save(post);
+        viewCounter.increment();
 
         return PostDto.fromEntity(post);
     }
 
+    // 게시글 첨부파일 목록 조회 (ZIP 다운로드용, 조회수 증가 없음)
+    @Transactional(readOnly = true)
+    public List<PostDto.AttachmentDto> getAttachments(Long postId) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다: " + postId));
+
+        return post.getAttachments().stream()
+                .map(PostDto.AttachmentDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
     // 게시글 생성 (첨부파일 처리 추가)
     @Transactional
     public PostDto createPost(PostDto postDto, List<MultipartFile> files) {
+        // 현재 인증된 사용자
+        // 작성자 이름은 게시글에 그대로 저장되므로 토큰의 닉네임이 아닌 User 에서 읽음 (2차 캐시라 보통 쿼리 없음)
+        CurrentUser currentUser = CurrentUser.get().orElse(null);
         User user = null;
-
-        // 현재 인증된 사용자 가져오기
-        try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth != null && auth.isAuthenticated() &&
-                    !auth.getPrincipal().equals("anonymousUser")) {
-                user = userRepository.findByUsername(auth.getName()).orElse(null);
-                if (user != null) {
-                    System.out.println("✍️ 게시글 작성자: " + user.getUsername() +
-                            " (닉네임: " + user.getNickname() + ", 권한: " + user.getRole() + ")");
-                }
-            }
-        } catch (Exception e) {
-            System.out.println("⚠️ 인증 정보 확인 실패: " + e.getMessage());
+        if (currentUser != null) {
+            user = userRepository.findById(currentUser.getId())
+                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         }
 
         // 카테고리 확인
         BoardCategory category = null;
         if (postDto.getCategoryId() != null) {
-            category = boardCategoryRepository.findById(postDto.getCategoryId())
-                    .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다: " + postDto.getCategoryId()));
-            System.out.println("📋 게시판: " + category.getName());
+            category = categoryCatalog.getCategory(postDto.getCategoryId());
         }
 
         // 작성자 설정: 닉네임 우선 사용
         String authorName = "익명";
         if (user != null) {
-            authorName = user.getNickname() != null ? user.getNickname() :
-                    (user.getName() != null ? user.getName() : user.getUsername());
+            authorName = user.getNickname() != null ? user.getNickname() : user.getUsername();
         }
 
         Post post = Post.builder()
@@ -131,10 +160,17 @@ public class PostService {
             savedPost.setAttachments(attachments);
             savedPost = postRepository.save(savedPost);
         }
-
-        System.out.println("✅ 게시글 작성 완료: " + savedPost.getTitle() + " (작성자: " + authorName + ")");
-
-        return PostDto.fromEntity(savedPost);
+        categoryCatalog.postCreated(category != null ? category.getId() : null, savedPost.getCreatedDate());
+        createdCounter.increment();
+        auditJournal.record("POST_CREATE", "POST", savedPost.getId(), AuditJournal.detail(
+                "title", savedPost.getTitle(),
+                "categoryId", category != null ? category.getId() : null,
+                "attachments", savedPost.getAttachments().size()));
+
+        if (user == null) {
+            return PostDto.fromEntity(savedPost);
+        }
+        return PostDto.fromEntity(savedPost, user.getId(), user.getUsername(), user.getNickname());
     }
 
     // 첨부파일 저장 메소드
@@ -157,25 +193,17 @@ public class PostService {
             attachments.add(attachmentRepository.save(attachment));
         }
 
+        attachmentsPerPost.record(attachments.size());
         return attachments;
     }
 
     // 게시글 수정 (첨부파일 처리 추가)
     @Transactional
     public PostDto updatePost(Long id, PostDto postDto, List<MultipartFile> newFiles, List<Long> filesToDelete) {
-        Post post = postRepository.findById(id)
+        Post post = postRepository.findDetailById(id)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다: " + id));
 
-        User currentUser = null;
-        try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth != null && auth.isAuthenticated() &&
-                    !auth.getPrincipal().equals("anonymousUser")) {
-                currentUser = userRepository.findByUsername(auth.getName()).orElse(null);
-            }
-        } catch (Exception e) {
-            // 인증 정보가 없어도 계속 진행 (임시 개발 환경)
-        }
+        CurrentUser currentUser = CurrentUser.get().orElse(null);
 
         // 권한 체크
         if (currentUser != null && !isAllowedToModify(currentUser, post)) {
@@ -185,11 +213,12 @@ public class PostService {
         post.setTitle(postDto.getTitle());
         post.setContent(postDto.getContent());
 
-        // 카테고리 변경
-        if (postDto.getCategoryId() != null) {
-            BoardCategory category = boardCategoryRepository.findById(postDto.getCategoryId())
-                    .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다: " + postDto.getCategoryId()));
-            post.setCategory(category);
+        // 카테고리 변경 (게시판 통계의 글/댓글 수 이동)
+        Long oldCategoryId = post.getCategory() != null ? post.getCategory().getId() : null;
+        if (postDto.getCategoryId() != null && !postDto.getCategoryId().equals(oldCategoryId)) {
+            post.setCategory(categoryCatalog.getCategory(postDto.getCategoryId()));
+            categoryCatalog.postMoved(oldCategoryId, postDto.getCategoryId(), post.getCreatedDate(),
+                    commentRepository.countByPostAndDeletedFalse(post));
         }
 
         // 삭제할 첨부파일 처리
@@ -216,6 +245,12 @@ public class PostService {
         }
 
         Post updatedPost = postRepository.save(post);
+        auditJournal.record("POST_UPDATE", "POST", id, AuditJournal.detail(
+                "title", updatedPost.getTitle(),
+                "categoryId", updatedPost.getCategory() != null ? updatedPost.getCategory().getId() : null,
+                "deletedAttachments", filesToDelete != null ? filesToDelete.size() : null,
+                "addedAttachments", newFiles != null ? newFiles.size() : null,
+                "authorId", post.getUser() != null ? post.getUser().getId() : null));
         return PostDto.fromEntity(updatedPost);
     }
 
@@ -225,58 +260,55 @@ public class PostService {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다: " + id));
 
-        User currentUser = null;
-        try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth != null && auth.isAuthenticated() &&
-                    !auth.getPrincipal().equals("anonymousUser")) {
-                currentUser = userRepository.findByUsername(auth.getName()).orElse(null);
-            }
-        } catch (Exception e) {
-            // 인증 정보가 없어도 계속 진행 (임시 개발 환경)
-        }
+        CurrentUser currentUser = CurrentUser.get().orElse(null);
 
         // 권한 체크
         if (currentUser != null && !isAllowedToModify(currentUser, post)) {
             throw new RuntimeException("게시글을 삭제할 권한이 없습니다");
         }
 
-        // 첨부파일 삭제
-        for (PostAttachment attachment : post.getAttachments()) {
-            fileStorageService.deleteFile(attachment.getFileName(), "post");
-        }
-
-        // 게시글 삭제
-        postRepository.delete(post);
+        List<String> fileNames = post.getAttachments().stream()
+                .map(PostAttachment::getFileName)
+                .collect(Collectors.toList());
+        Long categoryId = post.getCategory() != null ? post.getCategory().getId() : null;
+        long activeComments = categoryId != null ? commentRepository.countByPostAndDeletedFalse(post) : 0;
+
+        // 댓글, 첨부파일, 게시글 순서로 일괄 삭제 (댓글/첨부파일 수와 관계없이 문장 수 고정)
+        commentRepository.detachRepliesByPostId(id);
+        commentRepository.deleteAllByPostId(id);
+        attachmentRepository.deleteAllByPostId(id);
+        postRepository.deletePostById(id);
+        categoryCatalog.postDeleted(categoryId, post.getCreatedDate(), activeComments);
+        deletedCounter.increment();
+        auditJournal.record("POST_DELETE", "POST", id, AuditJournal.detail(
+                "title", post.getTitle(),
+                "categoryId", categoryId,
+                "attachments", fileNames.size(),
+                "authorId", post.getUser() != null ? post.getUser().getId() : null));
+
+        // 첨부파일은 커밋 후 삭제 (롤백 시 파일이 남도록)
+        TransactionUtils.afterCommit(() -> fileNames.forEach(fileName -> fileStorageService.deleteFile(fileName, "post")));
     }
 
     // 게시글 수정/삭제 권한 체크 (권한 체계 수정)
-    private boolean isAllowedToModify(User user, Post post) {
+    // 허용된 변경은 감사 저널의 POST_UPDATE/POST_DELETE 이벤트(수행자 + 작성자 id)로 남는다
+    private boolean isAllowedToModify(CurrentUser user, Post post) {
         // 🏢 매니저는 모든 글을 수정/삭제 가능
         if (user.getRole() == UserRole.ROLE_MANAGER) {
-            System.out.println("👑 매니저 권한으로 수정/삭제 허용: " + user.getUsername());
             return true;
         }
 
         // 🔑 관리자는 모든 글을 수정/삭제 가능
         if (user.getRole() == UserRole.ROLE_ADMIN) {
-            System.out.println("🔑 관리자 권한으로 수정/삭제 허용: " + user.getUsername());
             return true;
         }
 
         // 🛡️ 관리자회원은 모든 글을 수정/삭제 가능
         if (user.getRole() == UserRole.ROLE_MODERATOR) {
-            System.out.println("🛡️ 관리자회원 권한으로 수정/삭제 허용: " + user.getUsername());
             return true;
         }
 
         // 👤 본인 글은 수정/삭제 가능
-        if (post.getUser() != null && post.getUser().getId().equals(user.getId())) {
-            System.out.println("👤 본인 글 수정/삭제 허용: " + user.getUsername());
-            return true;
-        }
-
-        System.out.println("❌ 수정/삭제 권한 없음: " + user.getUsername());
-        return false;
+        return post.getUser() != null && post.getUser().getId().equals(user.getId());
     }
 }
\ No newline at end of file
@@ -3,42 +3,76 @@ package com.example.board.service;
 import com.example.board.entity.RefreshToken;
 import com.example.board.entity.User;
 import com.example.board.repository.RefreshTokenRepository;
+import com.example.board.util.HashUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.security.SecureRandom;
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @Service
 public class RefreshTokenService {
 
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+
     private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SecureRandom secureRandom = new SecureRandom();
 
     @Value("${jwt.refresh-token-validity-in-seconds:604800}") // 7일
     private long refreshTokenValidityInSeconds;
 
+    @Value("${jwt.refresh-token.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    // 교체 직후 이 시간 안에 같은 토큰이 다시 오면 (여러 탭, 401 후 병렬 재시도) 탈취가 아닌 경쟁으로 보고 거절만 함
+    @Value("${jwt.refresh-token.reuse-grace-seconds:30}")
+    private long reuseGraceSeconds;
+
     @Autowired
-    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository) {
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               PlatformTransactionManager transactionManager) {
         this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
+    /**
+     * Refresh Token 발급 (DB 에는 해시만 저장, 원문은 반환 객체의 token 에만 담김)
+     */
     @Transactional
     public RefreshToken createRefreshToken(User user) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
         RefreshToken refreshToken = RefreshToken.builder()
-                .token(UUID.randomUUID().toString())
+                .tokenHash(HashUtils.sha256Hex(rawToken))
                 .user(user)
                 .expiryDate(LocalDateTime.now().plusSeconds(refreshTokenValidityInSeconds))
                 .build();
 
-        return refreshTokenRepository.save(refreshToken);
+        RefreshToken saved = refreshTokenRepository.save(refreshToken);
+        saved.setToken(rawToken);
+        return saved;
     }
 
     @Transactional(readOnly = true)
     public Optional<RefreshToken> findByToken(String token) {
-        return refreshTokenRepository.findByTokenAndIsRevokedFalse(token);
+        return refreshTokenRepository.findByTokenHash(HashUtils.sha256Hex(token))
+                .filter(refreshToken -> !refreshToken.isRevoked());
     }
 
     @Transactional
@@ -50,9 +84,54 @@ public class RefreshTokenService {
         return token;
     }
 
+    /**
+     * Refresh Token 교체 (사용한 토큰은 폐기하고 새 토큰 발급)
+     * 이미 폐기된 토큰이 다시 사용되면 탈취로 보고 해당 사용자의 모든 Refresh Token 을 폐기한다
+     * (단, 교체된 지 reuse-grace-seconds 이내면 동시 갱신으로 보고 이 요청만 거절)
+     *
+     * @throws RefreshTokenReuseException 폐기된 토큰이 재사용된 경우
+     */
+    @Transactional(noRollbackFor = RefreshTokenReuseException.class)
+    public RefreshToken rotate(String token) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(HashUtils.sha256Hex(token))
+                .orElseThrow(() -> new RuntimeException("유효하지 않은 refresh token입니다."));
+
+        if (current.isRevoked()) {
+            if (recentlyRotated(current)) {
+                throw alreadyRotated();
+            }
+            throw reuseDetected(current);
+        }
+
+        verifyExpiration(current);
+
+        if (refreshTokenRepository.revokeIfActive(current.getId(), LocalDateTime.now()) == 0) {
+            // 동시에 같은 토큰으로 갱신한 다른 요청이 먼저 교체함 (탈취가 아닌 경쟁)
+            throw alreadyRotated();
+        }
+
+        return createRefreshToken(current.getUser());
+    }
+
+    private boolean recentlyRotated(RefreshToken token) {
+        return token.getRotatedDate() != null
+                && token.getRotatedDate().plusSeconds(reuseGraceSeconds).isAfter(LocalDateTime.now());
+    }
+
+    private RuntimeException alreadyRotated() {
+        return new RuntimeException("이미 갱신된 refresh token입니다. 새로 받은 토큰을 사용해주세요.");
+    }
+
+    private RefreshTokenReuseException reuseDetected(RefreshToken token) {
+        User user = token.getUser();
+        refreshTokenRepository.revokeAllTokensByUser(user);
+        logger.warn("폐기된 Refresh Token 재사용 감지 - 모든 토큰 폐기: {}", user.getUsername());
+        return new RefreshTokenReuseException(user);
+    }
+
     @Transactional
     public void revokeToken(String token) {
-        refreshTokenRepository.findByToken(token)
+        refreshTokenRepository.findByTokenHash(HashUtils.sha256Hex(token))
                 .ifPresent(refreshToken -> {
                     refreshToken.revoke();
                     refreshTokenRepository.save(refreshToken);
@@ -63,4 +142,43 @@ public class RefreshTokenService {
     public void revokeAllUserTokens(User user) {
         refreshTokenRepository.revokeAllTokensByUser(user);
     }
-}
\ No newline at end of file
+
+    /**
+     * 만료된 토큰 정리
+     * 한 번에 지우면 테이블 잠금이 길어지므로 배치 단위로 나눠서 각각 별도 트랜잭션으로 삭제
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.purge-interval-ms:3600000}")
+    public void purgeExpiredTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, purgeBatchSize));
+                return ids.isEmpty() ? 0 : refreshTokenRepository.deleteByIdIn(ids);
+            });
+            total += deleted;
+        } while (deleted >= purgeBatchSize);
+
+        if (total > 0) {
+            logger.info("만료된 Refresh Token {}개 삭제", total);
+        }
+    }
+
+    /**
+     * 폐기된 Refresh Token 이 다시 사용됨 (탈취 의심)
+     */
+    public static class RefreshTokenReuseException extends RuntimeException {
+
+        private final User user;
+
+        public RefreshTokenReuseException(User user) {
+            super("이미 사용된 refresh token입니다. 다시 로그인해주세요.");
+            this.user = user;
+        }
+
+        public User getUser() {
+            return user;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.board.service;
+
+import com.example.board.entity.RevokedAccessToken;
+import com.example.board.entity.User;
+import com.example.board.repository.RevokedAccessTokenRepository;
+import com.example.board.repository.UserRepository;
+import com.example.board.security.JwtTokenProvider;
+import com.example.board.security.TokenRevocationRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.example.board.util.TransactionUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Access Token 무효화 (DB 저장 + 메모리 목록 갱신)
+ * 요청 처리 시에는 TokenRevocationRegistry 만 확인하므로 DB 조회가 없다
+ * 메모리 목록은 컨텍스트 초기화 중(웹 서버가 요청을 받기 전)에 DB 에서 채운다
+ */
+@Service
+public class TokenRevocationService implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final TokenRevocationRegistry registry;
+    private final UserRepository userRepository;
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final JwtTokenProvider tokenProvider;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    @Value("${jwt.token-validity-in-seconds:86400}")
+    private long tokenValidityInSeconds;
+
+    @Autowired
+    public TokenRevocationService(TokenRevocationRegistry registry,
+                                  UserRepository userRepository,
+                                  RevokedAccessTokenRepository revokedAccessTokenRepository,
+                                  JwtTokenProvider tokenProvider,
+                                  PlatformTransactionManager transactionManager) {
+        this.registry = registry;
+        this.userRepository = userRepository;
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.tokenProvider = tokenProvider;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 지금까지 발급된 사용자의 모든 Access Token 무효화 (잠금, 권한 변경, 삭제)
+     * 호출한 트랜잭션 안에서 User 에 기준 시각을 기록하고, 메모리 목록은 커밋된 후에 갱신한다
+     * (롤백되면 DB 와 달리 이 인스턴스에서만 로그아웃된 상태가 되지 않도록)
+     */
+    @Transactional
+    public void revokeAllAccessTokens(User user) {
+        LocalDateTime now = LocalDateTime.now();
+        user.setTokensValidAfter(now);
+        Long userId = user.getId();
+        TransactionUtils.afterCommit(() -> registry.revokeUserTokensIssuedBefore(userId, toEpochMilli(now)));
+        logger.info("Access Token 전체 무효화: {}", user.getUsername());
+    }
+
+    /**
+     * Access Token 하나 무효화 (로그아웃)
+     */
+    @Transactional
+    public void revokeAccessToken(String accessToken) {
+        JwtTokenProvider.TokenIdentity identity = tokenProvider.readTokenIdentity(accessToken);
+        if (identity == null || identity.expiresAtMillis() <= System.currentTimeMillis()) {
+            return;
+        }
+
+        TransactionUtils.afterCommit(() -> registry.revokeToken(identity.tokenId(), identity.expiresAtMillis()));
+        if (!revokedAccessTokenRepository.existsByTokenId(identity.tokenId())) {
+            revokedAccessTokenRepository.save(RevokedAccessToken.builder()
+                    .tokenId(identity.tokenId())
+                    .userId(identity.userId())
+                    .expiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(identity.expiresAtMillis()), ZoneId.systemDefault()))
+                    .build());
+        }
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        readOnlyTransactionTemplate.executeWithoutResult(status -> loadRevocations());
+    }
+
+    /**
+     * 시작 시 DB 에서 아직 유효한 무효화 정보를 읽어 메모리 목록을 채움
+     * 웹 서버 시작 전에 끝나야 로그아웃/잠금된 토큰이 시작 직후에 통과되지 않는다
+     */
+    private void loadRevocations() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> cutoffs = userRepository.findTokenCutoffsAfter(now.minusSeconds(tokenValidityInSeconds));
+        for (Object[] row : cutoffs) {
+            registry.revokeUserTokensIssuedBefore((Long) row[0], toEpochMilli((LocalDateTime) row[1]));
+        }
+
+        List<RevokedAccessToken> revokedTokens = revokedAccessTokenRepository.findByExpiresAtAfter(now);
+        for (RevokedAccessToken revokedToken : revokedTokens) {
+            registry.revokeToken(revokedToken.getTokenId(),
+                    revokedToken.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+
+        logger.info("토큰 무효화 목록 로드: 사용자 {}명, 토큰 {}개", cutoffs.size(), revokedTokens.size());
+    }
+
+    /**
+     * 만료된 무효화 정보 정리 (메모리 + DB)
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:600000}")
+    @Transactional
+    public void purgeExpired() {
+        registry.purgeExpired(System.currentTimeMillis());
+        int deleted = revokedAccessTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            logger.info("만료된 무효화 토큰 {}개 삭제", deleted);
+        }
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
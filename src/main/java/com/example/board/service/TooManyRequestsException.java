@@ -0,0 +1,18 @@
+package com.example.board.service;
+
+/**
+ * 요청이 너무 많아 처리를 거부함 (429 Too Many Requests 로 응답)
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
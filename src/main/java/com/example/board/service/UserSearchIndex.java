@@ -0,0 +1,535 @@
+package com.example.board.service;
+
+import com.example.board.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 사용자 검색 인덱스 (username, nickname, name, email)
+ * - 부분 일치: 3글자 조각(trigram)별 문서 번호 목록을 교집합한 뒤 실제 포함 여부를 확인
+ * - 앞부분 일치: 필드 값 정렬 배열에서 이진 탐색 (최근 추가분은 작은 TreeSet 에 모았다가 주기적으로 합침)
+ * 3글자 미만 검색어는 앞부분 일치만 사용한다.
+ * 시작 후 백그라운드에서 DB 를 id 순으로 나눠 읽어 만들고, 완성 전에는 isReady() 가 false 라 DB 검색을 사용한다.
+ * 생성에 실패하면 간격을 늘려가며 다시 시도하며, 상태는 user.search.index.* 메트릭과 /health/detailed 에 나온다.
+ */
+@Component
+public class UserSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSearchIndex.class);
+
+    private static final int BUILD_BATCH_SIZE = 10_000;
+    private static final int PREFIX_DELTA_LIMIT = 50_000;
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final long BUILD_RETRY_INITIAL_MILLIS = 5_000;
+    private static final long BUILD_RETRY_MAX_MILLIS = 300_000;
+
+    private final UserRepository userRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private IndexData data = new IndexData();
+    private volatile boolean ready;
+
+    // 연속 생성 실패 횟수와 마지막 오류 (성공하면 초기화)
+    private volatile int failedBuilds;
+    private volatile String lastBuildError;
+
+    // 인덱스를 만드는 동안 들어온 변경 (id → 문서, 삭제는 null)
+    private final Map<Long, Doc> pendingChanges = new LinkedHashMap<>();
+
+    @Autowired
+    public UserSearchIndex(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+
+        Gauge.builder("user.search.index.ready", this, index -> index.ready ? 1 : 0)
+                .description("사용자 검색 인덱스 사용 가능 여부 (0 이면 DB 검색)")
+                .register(meterRegistry);
+        Gauge.builder("user.search.index.size", this, UserSearchIndex::size)
+                .description("사용자 검색 인덱스의 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("user.search.index.build.failures", this, index -> index.failedBuilds)
+                .description("사용자 검색 인덱스 연속 생성 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInBackground() {
+        Thread thread = new Thread(this::buildWithRetry, "user-search-index");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // 성공할 때까지 간격을 두 배씩 늘려가며 재시도 (최대 5분)
+    private void buildWithRetry() {
+        long backoffMillis = BUILD_RETRY_INITIAL_MILLIS;
+        while (!build()) {
+            logger.warn("사용자 검색 인덱스 생성 재시도 예정: {}ms 후 ({}회 실패)", backoffMillis, failedBuilds);
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            backoffMillis = Math.min(backoffMillis * 2, BUILD_RETRY_MAX_MILLIS);
+        }
+    }
+
+    /**
+     * DB 에서 전체 사용자를 읽어 인덱스 생성
+     * @return 성공 여부 (실패하면 기존 인덱스/대기 중인 변경은 그대로 유지)
+     */
+    public boolean build() {
+        long start = System.currentTimeMillis();
+        try {
+            IndexData newData = new IndexData();
+            long lastId = 0;
+            List<Object[]> rows;
+            do {
+                rows = userRepository.findSearchFieldsAfter(lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+                for (Object[] row : rows) {
+                    lastId = (Long) row[0];
+                    newData.add(new Doc(lastId, (String) row[1], (String) row[2], (String) row[3], (String) row[4]), false);
+                }
+            } while (rows.size() == BUILD_BATCH_SIZE);
+            newData.rebuildPrefixArray();
+
+            lock.writeLock().lock();
+            try {
+                pendingChanges.forEach((id, doc) -> {
+                    newData.remove(id);
+                    if (doc != null) {
+                        newData.add(doc, true);
+                    }
+                });
+                pendingChanges.clear();
+                data = newData;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            failedBuilds = 0;
+            lastBuildError = null;
+            logger.info("사용자 검색 인덱스 생성 완료: {}명, {}ms", newData.liveCount, System.currentTimeMillis() - start);
+            return true;
+        } catch (Exception e) {
+            failedBuilds++;
+            lastBuildError = e.getClass().getSimpleName() + ": " + e.getMessage();
+            logger.error("사용자 검색 인덱스 생성 실패 (DB 검색 사용): {}", e.getMessage(), e);
+            return false;
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int getFailedBuilds() {
+        return failedBuilds;
+    }
+
+    public String getLastBuildError() {
+        return lastBuildError;
+    }
+
+    /**
+     * 사용자 추가 또는 변경
+     */
+    public void put(long id, String username, String nickname, String name, String email) {
+        Doc doc = new Doc(id, username, nickname, name, email);
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                pendingChanges.put(id, doc);
+                return;
+            }
+            data.remove(id);
+            data.add(doc, true);
+            data.maintain();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                pendingChanges.put(id, null);
+                return;
+            }
+            data.remove(id);
+            data.maintain();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 (앞부분 일치 결과를 먼저, 나머지 부분 일치 결과는 가입 순)
+     */
+    public SearchResult search(String keyword, int offset, int limit) {
+        String query = keyword == null ? "" : keyword.trim().toLowerCase(Locale.ROOT);
+        lock.readLock().lock();
+        try {
+            int[] ordinals = data.search(query);
+            int from = Math.min(Math.max(offset, 0), ordinals.length);
+            int to = (int) Math.min((long) from + Math.max(limit, 0), ordinals.length);
+            List<Long> ids = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                ids.add(data.docs[ordinals[i]].id);
+            }
+            return new SearchResult(ids, ordinals.length);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return data.liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public record SearchResult(List<Long> ids, long total) {
+    }
+
+    // 검색 대상 필드 (소문자)
+    private static final class Doc {
+
+        final long id;
+        final String[] fields;
+
+        Doc(long id, String username, String nickname, String name, String email) {
+            this.id = id;
+            this.fields = new String[]{lower(username), lower(nickname), lower(name), lower(email)};
+        }
+
+        boolean contains(String query) {
+            for (String field : fields) {
+                if (field != null && field.contains(query)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static String lower(String value) {
+            return value == null || value.isEmpty() ? null : value.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * 인덱스 본체 (외부 잠금으로 보호)
+     * 문서 번호(ordinal)는 추가 순서대로 증가하므로 trigram 목록은 항상 정렬되어 있고,
+     * 변경/삭제된 문서는 docs 에서 null 로 표시만 했다가 많아지면 전체를 다시 만든다.
+     */
+    private static final class IndexData {
+
+        Doc[] docs = new Doc[1024];
+        int docCount;
+        int liveCount;
+        final Map<Long, Integer> ordinalById = new HashMap<>();
+        final Map<Long, IntList> postings = new HashMap<>();
+
+        // 앞부분 일치용 정렬 배열 (필드 값, 문서 번호)과 그 이후 추가분
+        String[] prefixValues = new String[0];
+        int[] prefixOrdinals = new int[0];
+        final TreeSet<String> prefixDelta = new TreeSet<>();
+
+        /**
+         * @param incremental true 면 앞부분 일치용 추가분에 기록 (대량 생성 시에는 마지막에 정렬 배열을 한 번에 만듦)
+         */
+        void add(Doc doc, boolean incremental) {
+            if (docCount == docs.length) {
+                docs = Arrays.copyOf(docs, docs.length * 2);
+            }
+            int ordinal = docCount++;
+            docs[ordinal] = doc;
+            liveCount++;
+            ordinalById.put(doc.id, ordinal);
+
+            for (String field : doc.fields) {
+                if (field == null) {
+                    continue;
+                }
+                for (int i = 0; i + 3 <= field.length(); i++) {
+                    postings.computeIfAbsent(trigram(field, i), key -> new IntList()).addIfLast(ordinal);
+                }
+                if (incremental) {
+                    prefixDelta.add(field + KEY_SEPARATOR + ordinal);
+                }
+            }
+        }
+
+        void remove(long id) {
+            Integer ordinal = ordinalById.remove(id);
+            if (ordinal == null) {
+                return;
+            }
+            for (String field : docs[ordinal].fields) {
+                if (field != null) {
+                    prefixDelta.remove(field + KEY_SEPARATOR + ordinal);
+                }
+            }
+            docs[ordinal] = null;
+            liveCount--;
+        }
+
+        /**
+         * 삭제 표시가 많거나 추가분이 커지면 정리
+         */
+        void maintain() {
+            int deleted = docCount - liveCount;
+            if (deleted > 1000 && deleted > docCount / 4) {
+                compact();
+            } else if (prefixDelta.size() > PREFIX_DELTA_LIMIT) {
+                rebuildPrefixArray();
+            }
+        }
+
+        // 살아 있는 문서만으로 다시 생성
+        private void compact() {
+            Doc[] live = new Doc[liveCount];
+            int n = 0;
+            for (int i = 0; i < docCount; i++) {
+                if (docs[i] != null) {
+                    live[n++] = docs[i];
+                }
+            }
+            docs = new Doc[Math.max(1024, live.length * 2)];
+            docCount = 0;
+            liveCount = 0;
+            ordinalById.clear();
+            postings.clear();
+            prefixDelta.clear();
+            prefixValues = new String[0];
+            prefixOrdinals = new int[0];
+            for (Doc doc : live) {
+                add(doc, false);
+            }
+            rebuildPrefixArray();
+        }
+
+        void rebuildPrefixArray() {
+            List<PrefixEntry> entries = new ArrayList<>(liveCount * 4);
+            for (int ordinal = 0; ordinal < docCount; ordinal++) {
+                Doc doc = docs[ordinal];
+                if (doc == null) {
+                    continue;
+                }
+                for (String field : doc.fields) {
+                    if (field != null) {
+                        entries.add(new PrefixEntry(field, ordinal));
+                    }
+                }
+            }
+            entries.sort(null);
+
+            prefixValues = new String[entries.size()];
+            prefixOrdinals = new int[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                prefixValues[i] = entries.get(i).value();
+                prefixOrdinals[i] = entries.get(i).ordinal();
+            }
+            prefixDelta.clear();
+            postings.values().forEach(IntList::trim);
+        }
+
+        int[] search(String query) {
+            IntList result = new IntList();
+            BitSet seen = new BitSet(docCount);
+
+            if (query.isEmpty()) {
+                for (int ordinal = 0; ordinal < docCount; ordinal++) {
+                    if (docs[ordinal] != null) {
+                        result.add(ordinal);
+                    }
+                }
+                return result.toArray();
+            }
+
+            // 1) 앞부분 일치 (정렬 배열 + 최근 추가분)
+            int index = lowerBound(prefixValues, query);
+            for (int i = index; i < prefixValues.length && prefixValues[i].startsWith(query); i++) {
+                int ordinal = prefixOrdinals[i];
+                if (docs[ordinal] != null && !seen.get(ordinal)) {
+                    seen.set(ordinal);
+                    result.add(ordinal);
+                }
+            }
+            for (String key : prefixDelta.tailSet(query)) {
+                if (!key.startsWith(query)) {
+                    break;
+                }
+                int ordinal = Integer.parseInt(key.substring(key.lastIndexOf(KEY_SEPARATOR) + 1));
+                if (docs[ordinal] != null && !seen.get(ordinal)) {
+                    seen.set(ordinal);
+                    result.add(ordinal);
+                }
+            }
+
+            // 2) 부분 일치 (trigram 교집합 → 실제 포함 여부 확인)
+            if (query.length() >= 3) {
+                IntList candidates = intersectTrigrams(query);
+                for (int i = 0; candidates != null && i < candidates.size; i++) {
+                    int ordinal = candidates.data[i];
+                    Doc doc = docs[ordinal];
+                    if (doc != null && !seen.get(ordinal) && doc.contains(query)) {
+                        seen.set(ordinal);
+                        result.add(ordinal);
+                    }
+                }
+            }
+            return result.toArray();
+        }
+
+        private IntList intersectTrigrams(String query) {
+            List<IntList> lists = new ArrayList<>();
+            for (int i = 0; i + 3 <= query.length(); i++) {
+                IntList list = postings.get(trigram(query, i));
+                if (list == null) {
+                    return null;
+                }
+                lists.add(list);
+            }
+            // 짧은 목록부터 교집합
+            lists.sort((a, b) -> Integer.compare(a.size, b.size));
+            IntList current = lists.get(0);
+            for (int i = 1; i < lists.size() && current.size > 0; i++) {
+                current = current.intersect(lists.get(i));
+            }
+            return current;
+        }
+
+        private static long trigram(String value, int offset) {
+            return ((long) value.charAt(offset) << 32) | ((long) value.charAt(offset + 1) << 16) | value.charAt(offset + 2);
+        }
+
+        private static int lowerBound(String[] values, String key) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private record PrefixEntry(String value, int ordinal) implements Comparable<PrefixEntry> {
+
+        @Override
+        public int compareTo(PrefixEntry other) {
+            int compare = value.compareTo(other.value);
+            return compare != 0 ? compare : Integer.compare(ordinal, other.ordinal);
+        }
+    }
+
+    // 정렬된 int 목록 (박싱 없이 문서 번호 저장)
+    private static final class IntList {
+
+        int[] data = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size + (size >> 1) + 1);
+            }
+            data[size++] = value;
+        }
+
+        // 같은 문서에서 같은 trigram 이 여러 번 나오면 한 번만 추가
+        void addIfLast(int value) {
+            if (size == 0 || data[size - 1] != value) {
+                add(value);
+            }
+        }
+
+        IntList intersect(IntList other) {
+            IntList result = new IntList();
+            if ((long) size * 16 < other.size) {
+                // 길이 차이가 크면 긴 목록은 지수 탐색으로 건너뜀
+                int from = 0;
+                for (int i = 0; i < size && from < other.size; i++) {
+                    from = other.lowerBound(data[i], from);
+                    if (from < other.size && other.data[from] == data[i]) {
+                        result.add(data[i]);
+                    }
+                }
+                return result;
+            }
+
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                int a = data[i];
+                int b = other.data[j];
+                if (a == b) {
+                    result.add(a);
+                    i++;
+                    j++;
+                } else if (a < b) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return result;
+        }
+
+        // from 이후에서 value 이상인 첫 위치
+        int lowerBound(int value, int from) {
+            int step = 1;
+            int high = from;
+            while (high < size && data[high] < value) {
+                from = high + 1;
+                high += step;
+                step <<= 1;
+            }
+            high = Math.min(high, size);
+            while (from < high) {
+                int mid = (from + high) >>> 1;
+                if (data[mid] < value) {
+                    from = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return from;
+        }
+
+        void trim() {
+            if (data.length != size) {
+                data = Arrays.copyOf(data, size);
+            }
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+}
@@ -1,36 +1,67 @@
 package com.example.board.service;
 
+import com.example.board.dto.PageResponse;
 import com.example.board.dto.UserDto;
+import com.example.board.dto.UserSummaryDto;
 import com.example.board.entity.BoardCategory;
 import com.example.board.entity.User;
 import com.example.board.entity.UserRole;
 import com.example.board.repository.BoardCategoryRepository;
 import com.example.board.repository.UserRepository;
+import com.example.board.repository.UserSpecifications;
+import com.example.board.util.TransactionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class UserService {
 
+    // 목록 정렬 허용 항목
+    private static final Set<String> USER_SORT_PROPERTIES =
+            Set.of("id", "username", "nickname", "createdDate", "warningCount", "role");
+
     private final UserRepository userRepository;
     private final BoardCategoryRepository boardCategoryRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenService refreshTokenService;
+    private final UserStatistics userStatistics;
+    private final UserSearchIndex userSearchIndex;
+    private final NicknameRegistry nicknameRegistry;
+    private final AuditJournal auditJournal;
 
     @Autowired
     public UserService(UserRepository userRepository,
                        BoardCategoryRepository boardCategoryRepository,
-                       PasswordEncoder passwordEncoder) {
+                       PasswordHashingService passwordHashingService,
+                       TokenRevocationService tokenRevocationService,
+                       RefreshTokenService refreshTokenService,
+                       UserStatistics userStatistics,
+                       UserSearchIndex userSearchIndex,
+                       NicknameRegistry nicknameRegistry,
+                       AuditJournal auditJournal) {
         this.userRepository = userRepository;
         this.boardCategoryRepository = boardCategoryRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.refreshTokenService = refreshTokenService;
+        this.userStatistics = userStatistics;
+        this.userSearchIndex = userSearchIndex;
+        this.nicknameRegistry = nicknameRegistry;
+        this.auditJournal = auditJournal;
     }
 
     @Transactional(readOnly = true)
@@ -49,7 +80,7 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public List<UserDto> getAllUsers() {
-        return userRepository.findAll().stream()
+        return userRepository.findAllWithManagedCategories().stream()
                 .map(UserDto::fromEntity)
                 .collect(Collectors.toList());
     }
@@ -76,11 +107,11 @@ public class UserService {
         }
 
         // 닉네임 중복 체크 및 자동 조정
-        finalNickname = ensureUniqueNickname(finalNickname);
+        finalNickname = nicknameRegistry.allocate(finalNickname);
 
         User user = User.builder()
                 .username(username)
-                .password(passwordEncoder.encode(password))
+                .password(passwordHashingService.encode(password))
                 .email(email)
                 .name(name)
                 .nickname(finalNickname)
@@ -92,23 +123,15 @@ public class UserService {
 
         User savedUser = userRepository.save(user);
 
-        System.out.println("👤 새 사용자 등록: " + savedUser.getUsername() +
-                " (닉네임: " + savedUser.getNickname() + ")");
+        auditJournal.record("USER_REGISTER", "USER", savedUser.getId(), AuditJournal.detail(
+                "username", savedUser.getUsername(),
+                "nickname", savedUser.getNickname()));
 
-        return UserDto.fromEntity(savedUser);
-    }
-
-    // 닉네임 중복 체크 및 고유한 닉네임 생성
-    private String ensureUniqueNickname(String baseNickname) {
-        String nickname = baseNickname;
-        int counter = 1;
-
-        while (userRepository.findByNickname(nickname).isPresent()) {
-            nickname = baseNickname + counter;
-            counter++;
-        }
-
-        return nickname;
+        UserDto savedUserDto = UserDto.fromEntity(savedUser);
+        nicknameRegistry.registered(savedUser.getNickname());
+        userStatistics.userRegistered(savedUserDto);
+        indexUser(savedUserDto);
+        return savedUserDto;
     }
 
     @Transactional
@@ -134,11 +157,19 @@ public class UserService {
             user.getManagedCategories().clear();
         }
 
+        // 기존 토큰의 권한 정보는 더 이상 맞지 않으므로 무효화 (Refresh Token 으로 재발급)
+        tokenRevocationService.revokeAllAccessTokens(user);
+
         User updatedUser = userRepository.save(user);
 
-        System.out.println("🔄 권한 변경: " + user.getUsername() + " (" + oldRole + " → " + role + ")");
+        auditJournal.record("USER_ROLE_CHANGE", "USER", userId, AuditJournal.detail(
+                "username", user.getUsername(),
+                "from", oldRole,
+                "to", role));
 
-        return UserDto.fromEntity(updatedUser);
+        UserDto updatedUserDto = UserDto.fromEntity(updatedUser);
+        userStatistics.roleChanged(oldRole, updatedUserDto);
+        return updatedUserDto;
     }
 
     // 관리자회원에게 특정 게시판 관리 권한 부여
@@ -160,11 +191,17 @@ public class UserService {
         }
 
         user.getManagedCategories().add(category);
+        // 관리 게시판은 토큰(cats)에서 읽으므로 기존 토큰을 무효화해 새 게시판이 반영된 토큰을 재발급받게 함
+        tokenRevocationService.revokeAllAccessTokens(user);
         User updatedUser = userRepository.save(user);
 
-        System.out.println("📋 게시판 할당: " + user.getUsername() + " → " + category.getName());
+        auditJournal.record("USER_CATEGORY_ASSIGN", "USER", userId, AuditJournal.detail(
+                "username", user.getUsername(),
+                "categoryId", categoryId));
 
-        return UserDto.fromEntity(updatedUser);
+        UserDto updatedUserDto = UserDto.fromEntity(updatedUser);
+        userStatistics.userUpdated(updatedUserDto);
+        return updatedUserDto;
     }
 
     // 관리자회원에게서 특정 게시판 관리 권한 해제
@@ -181,11 +218,16 @@ public class UserService {
         }
 
         user.getManagedCategories().remove(category);
+        tokenRevocationService.revokeAllAccessTokens(user);
         User updatedUser = userRepository.save(user);
 
-        System.out.println("📋 게시판 해제: " + user.getUsername() + " ← " + category.getName());
+        auditJournal.record("USER_CATEGORY_REMOVE", "USER", userId, AuditJournal.detail(
+                "username", user.getUsername(),
+                "categoryId", categoryId));
 
-        return UserDto.fromEntity(updatedUser);
+        UserDto updatedUserDto = UserDto.fromEntity(updatedUser);
+        userStatistics.userUpdated(updatedUserDto);
+        return updatedUserDto;
     }
 
     // 사용자 경고 부여
@@ -197,9 +239,13 @@ public class UserService {
         user.setWarningCount(user.getWarningCount() + 1);
         User updatedUser = userRepository.save(user);
 
-        System.out.println("⚠️ 경고 부여: " + user.getUsername() + " (총 " + user.getWarningCount() + "회)");
+        auditJournal.record("USER_WARN", "USER", userId, AuditJournal.detail(
+                "username", user.getUsername(),
+                "warningCount", user.getWarningCount()));
 
-        return UserDto.fromEntity(updatedUser);
+        UserDto updatedUserDto = UserDto.fromEntity(updatedUser);
+        userStatistics.userUpdated(updatedUserDto);
+        return updatedUserDto;
     }
 
     // 사용자 계정 잠금/해제
@@ -209,11 +255,21 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
 
         user.setLocked(lock);
+
+        // 잠금 즉시 발급된 토큰 사용 불가
+        if (lock) {
+            tokenRevocationService.revokeAllAccessTokens(user);
+            refreshTokenService.revokeAllUserTokens(user);
+        }
+
         User updatedUser = userRepository.save(user);
 
-        System.out.println(lock ? "🔒 계정 잠금: " : "🔓 계정 해제: " + user.getUsername());
+        auditJournal.record(lock ? "USER_LOCK" : "USER_UNLOCK", "USER", userId,
+                AuditJournal.detail("username", user.getUsername()));
 
-        return UserDto.fromEntity(updatedUser);
+        UserDto updatedUserDto = UserDto.fromEntity(updatedUser);
+        userStatistics.userUpdated(updatedUserDto);
+        return updatedUserDto;
     }
 
     // 사용자 삭제 (신중하게!)
@@ -228,60 +284,86 @@ public class UserService {
         }
 
         String username = user.getUsername();
+        tokenRevocationService.revokeAllAccessTokens(user);
         userRepository.delete(user);
+        userStatistics.userDeleted(userId, user.getRole());
+        TransactionUtils.afterCommit(() -> userSearchIndex.remove(userId));
 
-        System.out.println("🗑️ 사용자 삭제: " + username);
+        auditJournal.record("USER_DELETE", "USER", userId, AuditJournal.detail(
+                "username", username,
+                "role", user.getRole()));
     }
 
-    // 매니저 대시보드 정보
+    // 매니저 대시보드 정보 (메모리 통계 사용, DB 조회 없음)
     @Transactional(readOnly = true)
     public Map<String, Object> getManagerDashboard() {
         Map<String, Object> dashboard = new HashMap<>();
 
         // 사용자 통계
-        long totalUsers = userRepository.count();
-        long managerCount = userRepository.findAll().stream()
-                .filter(u -> u.getRole() == UserRole.ROLE_MANAGER).count();
-        long adminCount = userRepository.findAll().stream()
-                .filter(u -> u.getRole() == UserRole.ROLE_ADMIN).count();
-        long moderatorCount = userRepository.findAll().stream()
-                .filter(u -> u.getRole() == UserRole.ROLE_MODERATOR).count();
-        long userCount = userRepository.findAll().stream()
-                .filter(u -> u.getRole() == UserRole.ROLE_USER).count();
-
-        Map<String, Long> userStats = new HashMap<>();
-        userStats.put("total", totalUsers);
-        userStats.put("manager", managerCount);
-        userStats.put("admin", adminCount);
-        userStats.put("moderator", moderatorCount);
-        userStats.put("user", userCount);
-
-        dashboard.put("userStats", userStats);
+        dashboard.put("userStats", userStatistics.getUserStats());
 
         // 최근 가입한 사용자들
-        List<UserDto> recentUsers = userRepository.findAll().stream()
-                .sorted((u1, u2) -> u2.getCreatedDate().compareTo(u1.getCreatedDate()))
-                .limit(5)
-                .map(UserDto::fromEntity)
-                .collect(Collectors.toList());
-
-        dashboard.put("recentUsers", recentUsers);
+        dashboard.put("recentUsers", userStatistics.getRecentUsers());
 
         return dashboard;
     }
 
-    // 사용자 검색 메서드
+    // 사용자 검색 (검색 인덱스 사용, 인덱스 생성 전에는 DB 검색)
     @Transactional(readOnly = true)
-    public List<UserDto> searchUsers(String keyword) {
-        return userRepository.findAll().stream()
-                .filter(user ->
-                        user.getUsername().toLowerCase().contains(keyword.toLowerCase()) ||
-                                user.getName().toLowerCase().contains(keyword.toLowerCase()) ||
-                                user.getEmail().toLowerCase().contains(keyword.toLowerCase()) ||
-                                user.getNickname().toLowerCase().contains(keyword.toLowerCase())
-                )
+    public PageResponse<UserDto> searchUsers(String keyword, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        int pageNumber = Math.max(page, 0);
+
+        if (!userSearchIndex.isReady()) {
+            String escaped = (keyword == null ? "" : keyword.trim().toLowerCase(Locale.ROOT))
+                    .replace("!", "!!").replace("%", "!%").replace("_", "!_");
+            Page<User> users = userRepository.searchByKeyword(escaped,
+                    PageRequest.of(pageNumber, pageSize, Sort.by("id")));
+            return PageResponse.of(users.map(UserDto::fromEntity));
+        }
+
+        UserSearchIndex.SearchResult result = userSearchIndex.search(keyword, pageNumber * pageSize, pageSize);
+
+        // 현재 페이지 사용자만 한 번에 조회해서 검색 결과 순서대로 정렬
+        Map<Long, User> usersById = userRepository.findAllById(result.ids()).stream()
+                .collect(Collectors.toMap(User::getId, user -> user));
+        List<UserDto> content = result.ids().stream()
+                .map(usersById::get)
+                .filter(Objects::nonNull)
                 .map(UserDto::fromEntity)
                 .collect(Collectors.toList());
+        return PageResponse.of(content, pageNumber, pageSize, result.total());
+    }
+
+    // 사용자 목록 (필터/정렬/페이지를 DB 에서 처리, 요약 컬럼만 조회)
+    @Transactional(readOnly = true)
+    public PageResponse<UserSummaryDto> getUserSummaries(UserSummaryDto.Filter filter, int page, int size, String sort) {
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), pageSize, parseUserSort(sort));
+        return PageResponse.of(userRepository.findSummaries(UserSpecifications.fromFilter(filter), pageable));
+    }
+
+    // "필드,asc|desc" 형식 (허용된 필드만, 같은 값이면 id 순)
+    private static Sort parseUserSort(String sort) {
+        String property = "id";
+        Sort.Direction direction = Sort.Direction.DESC;
+        if (sort != null && !sort.isBlank()) {
+            String[] parts = sort.split(",", 2);
+            property = parts[0].trim();
+            if (!USER_SORT_PROPERTIES.contains(property)) {
+                throw new IllegalArgumentException("정렬할 수 없는 항목입니다: " + property);
+            }
+            direction = parts.length > 1 && parts[1].trim().equalsIgnoreCase("asc")
+                    ? Sort.Direction.ASC : Sort.Direction.DESC;
+        }
+        Sort result = Sort.by(direction, property);
+        return property.equals("id") ? result : result.and(Sort.by(direction, "id"));
+    }
+
+    // 검색 인덱스 갱신 (커밋 후)
+    private void indexUser(UserDto user) {
+        TransactionUtils.afterCommit(() -> userSearchIndex.put(user.getId(), user.getUsername(),
+                user.getNickname(), user.getName(), user.getEmail()));
     }
 
     @Transactional
@@ -293,11 +375,13 @@ public class UserService {
         if (request.getNickname() != null && !request.getNickname().isEmpty() &&
                 !request.getNickname().equals(user.getNickname())) {
 
-            if (userRepository.findByNickname(request.getNickname()).isPresent()) {
+            // 필터는 다른 인스턴스에서 등록된 닉네임을 모르므로 쓰기 경로에서는 항상 DB 확인
+            if (userRepository.existsByNickname(request.getNickname())) {
                 throw new RuntimeException("이미 사용 중인 닉네임입니다.");
             }
 
             user.setNickname(request.getNickname());
+            nicknameRegistry.registered(request.getNickname());
         }
 
         // 이름 업데이트 (선택적)
@@ -321,14 +405,16 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(user);
-        return UserDto.fromEntity(updatedUser);
+        UserDto updatedUserDto = UserDto.fromEntity(updatedUser);
+        userStatistics.userUpdated(updatedUserDto);
+        indexUser(updatedUserDto);
+        return updatedUserDto;
     }
 
     // 역할별 사용자 조회
     @Transactional(readOnly = true)
     public List<UserDto> getUsersByRole(UserRole role) {
-        return userRepository.findAll().stream()
-                .filter(user -> user.getRole() == role)
+        return userRepository.findByRole(role).stream()
                 .map(UserDto::fromEntity)
                 .collect(Collectors.toList());
     }
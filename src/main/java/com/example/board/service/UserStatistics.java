@@ -0,0 +1,170 @@
+package com.example.board.service;
+
+import com.example.board.dto.UserDto;
+import com.example.board.entity.UserRole;
+import com.example.board.repository.UserRepository;
+import com.example.board.util.TransactionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 매니저 대시보드용 사용자 통계 (메모리)
+ * 시작 시 GROUP BY 집계 한 번으로 역할별 수를 채우고, 이후에는 가입/권한 변경/삭제 시 커밋 후 갱신한다.
+ * 최근 가입자 목록이 삭제로 비면 다음 조회 때 한 번만 다시 읽는다.
+ */
+@Component
+public class UserStatistics {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserStatistics.class);
+
+    private static final int RECENT_USER_LIMIT = 5;
+
+    private final UserRepository userRepository;
+
+    private final Map<UserRole, AtomicLong> roleCounts = new EnumMap<>(UserRole.class);
+
+    // 최근 가입자 (최신순, 최대 5명) - recentUsers 자체를 잠금으로 사용
+    private final List<UserDto> recentUsers = new ArrayList<>();
+    private boolean recentUsersComplete;
+
+    private volatile boolean loaded;
+
+    @Autowired
+    public UserStatistics(UserRepository userRepository) {
+        this.userRepository = userRepository;
+        for (UserRole role : UserRole.values()) {
+            roleCounts.put(role, new AtomicLong());
+        }
+    }
+
+    // 최근 가입자의 관리 게시판(지연 로딩)까지 읽도록 트랜잭션 안에서 실행
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * DB 에서 다시 읽음 (역할별 집계 1회 + 최근 가입자 5명 1회)
+     */
+    public synchronized void reload() {
+        Map<UserRole, Long> counts = new EnumMap<>(UserRole.class);
+        for (Object[] row : userRepository.countUsersByRole()) {
+            counts.put((UserRole) row[0], (Long) row[1]);
+        }
+        roleCounts.forEach((role, count) -> count.set(counts.getOrDefault(role, 0L)));
+
+        reloadRecentUsers();
+        loaded = true;
+        logger.info("사용자 현황: {}", getUserStats());
+    }
+
+    /**
+     * 역할별 사용자 수와 전체 수
+     */
+    public Map<String, Long> getUserStats() {
+        ensureLoaded();
+        Map<String, Long> stats = new LinkedHashMap<>();
+        long total = 0;
+        for (Map.Entry<UserRole, AtomicLong> entry : roleCounts.entrySet()) {
+            long count = Math.max(0, entry.getValue().get());
+            total += count;
+            stats.put(entry.getKey().name().substring("ROLE_".length()).toLowerCase(), count);
+        }
+        stats.put("total", total);
+        return stats;
+    }
+
+    public List<UserDto> getRecentUsers() {
+        ensureLoaded();
+        synchronized (recentUsers) {
+            if (!recentUsersComplete) {
+                reloadRecentUsers();
+            }
+            return new ArrayList<>(recentUsers);
+        }
+    }
+
+    public void userRegistered(UserDto user) {
+        afterCommit(() -> {
+            roleCounts.get(user.getRole()).incrementAndGet();
+            synchronized (recentUsers) {
+                recentUsers.add(0, user);
+                if (recentUsers.size() > RECENT_USER_LIMIT) {
+                    recentUsers.remove(recentUsers.size() - 1);
+                }
+            }
+        });
+    }
+
+    public void roleChanged(UserRole oldRole, UserDto user) {
+        afterCommit(() -> {
+            if (oldRole != user.getRole()) {
+                roleCounts.get(oldRole).decrementAndGet();
+                roleCounts.get(user.getRole()).incrementAndGet();
+            }
+            replaceRecentUser(user);
+        });
+    }
+
+    /**
+     * 역할 외 정보 변경 (최근 가입자 목록에 있으면 교체)
+     */
+    public void userUpdated(UserDto user) {
+        afterCommit(() -> replaceRecentUser(user));
+    }
+
+    public void userDeleted(Long userId, UserRole role) {
+        afterCommit(() -> {
+            roleCounts.get(role).decrementAndGet();
+            synchronized (recentUsers) {
+                if (recentUsers.removeIf(recent -> recent.getId().equals(userId))) {
+                    recentUsersComplete = false;
+                }
+            }
+        });
+    }
+
+    private void replaceRecentUser(UserDto user) {
+        synchronized (recentUsers) {
+            recentUsers.replaceAll(recent -> recent.getId().equals(user.getId()) ? user : recent);
+        }
+    }
+
+    private void reloadRecentUsers() {
+        List<UserDto> latest = userRepository.findTop5ByOrderByCreatedDateDesc().stream()
+                .map(UserDto::fromEntity)
+                .collect(Collectors.toList());
+        synchronized (recentUsers) {
+            recentUsers.clear();
+            recentUsers.addAll(latest);
+            recentUsersComplete = true;
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            reload();
+        }
+    }
+
+    // 롤백된 변경이 통계에 반영되지 않도록 커밋 후 실행
+    private void afterCommit(Runnable action) {
+        if (loaded) {
+            TransactionUtils.afterCommit(action);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.board.storage;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 파일 하나당 실제 파일 하나로 저장하는 기본 저장소
+ */
+public class LocalDirectoryStorageBackend implements StorageBackend {
+
+    private final Path rootLocation;
+
+    public LocalDirectoryStorageBackend(Path rootLocation) {
+        this.rootLocation = rootLocation.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void store(String directory, String filename, InputStream inputStream, long size) throws IOException {
+        Path targetLocation = resolve(directory, filename);
+
+        // 타겟 디렉토리가 없으면 생성
+        Files.createDirectories(targetLocation.getParent());
+        Files.copy(inputStream, targetLocation, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public void storeFile(String directory, String filename, Path source) throws IOException {
+        Path targetLocation = resolve(directory, filename);
+        Files.createDirectories(targetLocation.getParent());
+
+        try {
+            Files.move(source, targetLocation, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException ex) {
+            // 다른 파일시스템이면 일반 이동 (내부적으로 복사)
+            Files.move(source, targetLocation, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public Resource load(String directory, String filename) {
+        Path filePath = resolve(directory, filename);
+        try {
+            Resource resource = new UrlResource(filePath.toUri());
+            if (resource.exists()) {
+                return resource;
+            } else {
+                throw new RuntimeException("File not found: " + filePath);
+            }
+        } catch (MalformedURLException ex) {
+            throw new RuntimeException("File not found: " + filePath, ex);
+        }
+    }
+
+    @Override
+    public boolean exists(String directory, String filename) {
+        return Files.exists(resolve(directory, filename));
+    }
+
+    @Override
+    public boolean delete(String directory, String filename) throws IOException {
+        return Files.deleteIfExists(resolve(directory, filename));
+    }
+
+    /**
+     * 논리 디렉토리 + 파일명을 실제 경로로 변환 (루트 밖으로 나가는 경로는 거부)
+     */
+    protected Path resolve(String directory, String filename) {
+        Path basePath = directory == null || directory.isEmpty() ? rootLocation : rootLocation.resolve(directory);
+        Path filePath = basePath.resolve(filename).normalize();
+        if (!filePath.startsWith(rootLocation)) {
+            throw new RuntimeException("Filename contains invalid path sequence: " + filename);
+        }
+        return filePath;
+    }
+}
@@ -0,0 +1,456 @@
+package com.example.board.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 작은 파일들을 큰 세그먼트 파일에 이어붙여 저장하는 저장소
+ * - 세그먼트는 append-only 이며 (키 → 세그먼트/오프셋/길이) 인덱스는 index.log 에 기록된다
+ * - store/delete 는 세그먼트 데이터와 인덱스 레코드를 디스크에 force 한 뒤 반환한다
+ *   (커밋된 게시글이 크래시 후 사라진 파일을 가리키지 않도록, 데이터 → 인덱스 순서)
+ * - 읽기는 세그먼트를 메모리 매핑한 MappedByteBuffer 의 slice 로 제공한다
+ * - 삭제/덮어쓰기로 생긴 빈 공간은 백그라운드 컴팩션으로 회수한다
+ * - maxBlobSize 를 넘는 파일과 인덱스에 없는 기존 파일은 fallback 저장소가 처리한다
+ */
+public class PackFileStorageBackend implements StorageBackend, Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PackFileStorageBackend.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".pack";
+    private static final String INDEX_FILE = "index.log";
+    private static final String INDEX_TEMP_FILE = "index.log.tmp";
+
+    private final Path packDirectory;
+    private final StorageBackend fallback;
+    private final long maxBlobSize;
+    private final long segmentSize;
+    private final double compactionThreshold;
+
+    private final Map<String, BlobLocation> index = new ConcurrentHashMap<>();
+    private final Map<Integer, Segment> segments = new ConcurrentHashMap<>();
+    private final Queue<Path> pendingDeletions = new ConcurrentLinkedQueue<>();
+
+    // 쓰기(추가/삭제/인덱스 기록)는 모두 writeLock 으로 직렬화
+    private final Object writeLock = new Object();
+    private volatile Segment activeSegment;
+    private FileChannel indexChannel;
+
+    public PackFileStorageBackend(Path packDirectory,
+                                  StorageBackend fallback,
+                                  long maxBlobSize,
+                                  long segmentSize,
+                                  double compactionThreshold) {
+        if (segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size must not exceed 2GB: " + segmentSize);
+        }
+        this.packDirectory = packDirectory.toAbsolutePath().normalize();
+        this.fallback = fallback;
+        this.maxBlobSize = Math.min(maxBlobSize, segmentSize);
+        this.segmentSize = segmentSize;
+        this.compactionThreshold = compactionThreshold;
+
+        try {
+            Files.createDirectories(this.packDirectory);
+            openSegments();
+            replayIndex();
+            synchronized (writeLock) {
+                rewriteIndex();
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not open pack storage at " + this.packDirectory, ex);
+        }
+
+        logger.info("팩 저장소 초기화: 세그먼트 {}개, 파일 {}개", segments.size(), index.size());
+    }
+
+    @Override
+    public void store(String directory, String filename, InputStream inputStream, long size) throws IOException {
+        String key = key(directory, filename);
+        if (size < 0 || size > maxBlobSize || !isIndexable(key)) {
+            fallback.store(directory, filename, inputStream, size);
+            return;
+        }
+
+        byte[] data = inputStream.readNBytes((int) size);
+        if (data.length != size) {
+            throw new IOException("Unexpected end of stream while storing " + key);
+        }
+
+        synchronized (writeLock) {
+            BlobLocation location = append(ByteBuffer.wrap(data));
+            activeSegment.channel.force(false);
+            BlobLocation previous = index.put(key, location);
+            writeIndexRecord(putRecord(key, location));
+            indexChannel.force(false);
+            if (previous != null) {
+                markDead(previous);
+            }
+        }
+    }
+
+    @Override
+    public void storeFile(String directory, String filename, Path source) throws IOException {
+        long size = Files.size(source);
+        if (size > maxBlobSize || !isIndexable(key(directory, filename))) {
+            fallback.storeFile(directory, filename, source);
+            return;
+        }
+
+        try (InputStream inputStream = Files.newInputStream(source)) {
+            store(directory, filename, inputStream, size);
+        }
+        Files.deleteIfExists(source);
+    }
+
+    @Override
+    public Resource load(String directory, String filename) {
+        String key = key(directory, filename);
+        BlobLocation location = index.get(key);
+
+        while (location != null) {
+            Segment segment = segments.get(location.segmentId());
+            if (segment != null) {
+                try {
+                    return new MappedBlobResource(segment.slice(location.offset(), location.length()), filename);
+                } catch (ClosedChannelException ex) {
+                    // 컴팩션으로 세그먼트가 닫힘 - 인덱스를 다시 확인
+                } catch (IOException ex) {
+                    throw new RuntimeException("Could not read file " + key, ex);
+                }
+            }
+
+            BlobLocation current = index.get(key);
+            if (current == null || current.equals(location)) {
+                break;
+            }
+            location = current;
+        }
+
+        return fallback.load(directory, filename);
+    }
+
+    @Override
+    public boolean exists(String directory, String filename) {
+        return index.containsKey(key(directory, filename)) || fallback.exists(directory, filename);
+    }
+
+    @Override
+    public boolean delete(String directory, String filename) throws IOException {
+        String key = key(directory, filename);
+        synchronized (writeLock) {
+            BlobLocation removed = index.remove(key);
+            if (removed != null) {
+                writeIndexRecord("D\t" + key + "\n");
+                indexChannel.force(false);
+                markDead(removed);
+                return true;
+            }
+        }
+        return fallback.delete(directory, filename);
+    }
+
+    /**
+     * 삭제 공간 비율이 임계값을 넘은 세그먼트의 살아있는 파일을 활성 세그먼트로 옮기고 세그먼트를 제거
+     */
+    @Scheduled(fixedDelayString = "${file.storage.pack.compaction-interval-ms:600000}",
+            initialDelayString = "${file.storage.pack.compaction-interval-ms:600000}")
+    public void compact() {
+        for (Segment segment : new ArrayList<>(segments.values())) {
+            if (segment == activeSegment) {
+                continue;
+            }
+
+            long size = segment.size.get();
+            long deadBytes = size - segment.liveBytes.get();
+            if (size > 0 && (double) deadBytes / size < compactionThreshold) {
+                continue;
+            }
+
+            try {
+                compactSegment(segment);
+            } catch (IOException ex) {
+                logger.warn("팩 세그먼트 컴팩션 실패: {}", segment.path, ex);
+            }
+        }
+
+        // 매핑이 남아 있어 지우지 못했던 세그먼트 파일 재시도 (Windows)
+        for (int i = pendingDeletions.size(); i > 0; i--) {
+            Path path = pendingDeletions.poll();
+            if (path != null && !tryDelete(path)) {
+                pendingDeletions.add(path);
+            }
+        }
+    }
+
+    private void compactSegment(Segment segment) throws IOException {
+        int moved = 0;
+        for (Map.Entry<String, BlobLocation> entry : index.entrySet()) {
+            BlobLocation location = entry.getValue();
+            if (location.segmentId() != segment.id) {
+                continue;
+            }
+
+            ByteBuffer data = segment.slice(location.offset(), location.length());
+            synchronized (writeLock) {
+                // 복사하는 사이 삭제되거나 덮어써졌으면 건너뜀
+                if (!location.equals(index.get(entry.getKey()))) {
+                    continue;
+                }
+                BlobLocation newLocation = append(data);
+                index.put(entry.getKey(), newLocation);
+                writeIndexRecord(putRecord(entry.getKey(), newLocation));
+            }
+            moved++;
+        }
+
+        long reclaimed;
+        synchronized (writeLock) {
+            segments.remove(segment.id);
+            // 옮긴 데이터를 디스크에 기록한 뒤 인덱스 교체 (그 다음에 원래 세그먼트 삭제)
+            for (Segment remaining : segments.values()) {
+                remaining.channel.force(false);
+            }
+            rewriteIndex();
+            reclaimed = segment.size.get();
+        }
+
+        segment.close();
+        if (!tryDelete(segment.path)) {
+            pendingDeletions.add(segment.path);
+        }
+
+        logger.info("팩 세그먼트 컴팩션 완료: {} ({}개 파일 이동, {} bytes 정리)", segment.path.getFileName(), moved, reclaimed);
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (writeLock) {
+            for (Segment segment : segments.values()) {
+                segment.close();
+            }
+            if (indexChannel != null) {
+                indexChannel.close();
+            }
+        }
+    }
+
+    // ================================
+    // 세그먼트 / 인덱스 관리
+    // ================================
+
+    /**
+     * 활성 세그먼트 끝에 데이터 추가 (writeLock 보유 상태에서 호출)
+     */
+    private BlobLocation append(ByteBuffer data) throws IOException {
+        int length = data.remaining();
+        Segment segment = activeSegment;
+        if (segment.size.get() > 0 && segment.size.get() + length > segmentSize) {
+            segment = createSegment(segment.id + 1);
+            activeSegment = segment;
+        }
+
+        long offset = segment.size.get();
+        long position = offset;
+        while (data.hasRemaining()) {
+            position += segment.channel.write(data, position);
+        }
+        segment.size.set(position);
+        segment.liveBytes.addAndGet(length);
+
+        return new BlobLocation(segment.id, offset, length);
+    }
+
+    private void markDead(BlobLocation location) {
+        Segment segment = segments.get(location.segmentId());
+        if (segment != null) {
+            segment.liveBytes.addAndGet(-location.length());
+        }
+    }
+
+    private void openSegments() throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(packDirectory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                int id = Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+                segments.put(id, new Segment(id, path));
+            }
+        }
+    }
+
+    private void replayIndex() throws IOException {
+        Path indexPath = packDirectory.resolve(INDEX_FILE);
+        if (Files.exists(indexPath)) {
+            try (BufferedReader reader = Files.newBufferedReader(indexPath, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    applyIndexRecord(line);
+                }
+            }
+        }
+
+        // 세그먼트에 실제로 존재하지 않는 항목 제거 (비정상 종료 대비)
+        index.entrySet().removeIf(entry -> {
+            BlobLocation location = entry.getValue();
+            Segment segment = segments.get(location.segmentId());
+            boolean valid = segment != null && location.offset() + location.length() <= segment.size.get();
+            if (!valid) {
+                logger.warn("팩 인덱스 항목 무시 (세그먼트 데이터 없음): {}", entry.getKey());
+            }
+            return !valid;
+        });
+        for (BlobLocation location : index.values()) {
+            segments.get(location.segmentId()).liveBytes.addAndGet(location.length());
+        }
+
+        Segment latest = segments.values().stream()
+                .max((a, b) -> Integer.compare(a.id, b.id))
+                .orElse(null);
+        activeSegment = latest != null && latest.size.get() < segmentSize ? latest : createSegment(latest != null ? latest.id + 1 : 1);
+    }
+
+    private void applyIndexRecord(String line) {
+        String[] parts = line.split("\t");
+        try {
+            if (parts.length == 5 && "P".equals(parts[0])) {
+                index.put(parts[1], new BlobLocation(Integer.parseInt(parts[2]), Long.parseLong(parts[3]), Integer.parseInt(parts[4])));
+            } else if (parts.length == 2 && "D".equals(parts[0])) {
+                index.remove(parts[1]);
+            } else if (!line.isEmpty()) {
+                logger.warn("손상된 팩 인덱스 레코드 무시: {}", line);
+            }
+        } catch (NumberFormatException ex) {
+            logger.warn("손상된 팩 인덱스 레코드 무시: {}", line);
+        }
+    }
+
+    /**
+     * 현재 인덱스 전체를 새 로그 파일로 기록하고 교체 (writeLock 보유 상태에서 호출)
+     */
+    private void rewriteIndex() throws IOException {
+        Path tempPath = packDirectory.resolve(INDEX_TEMP_FILE);
+        try (FileChannel channel = FileChannel.open(tempPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            StringBuilder records = new StringBuilder();
+            for (Map.Entry<String, BlobLocation> entry : index.entrySet()) {
+                records.append(putRecord(entry.getKey(), entry.getValue()));
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(records.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        if (indexChannel != null) {
+            indexChannel.close();
+        }
+        Files.move(tempPath, packDirectory.resolve(INDEX_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        indexChannel = FileChannel.open(packDirectory.resolve(INDEX_FILE), StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void writeIndexRecord(String record) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(record.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            indexChannel.write(buffer);
+        }
+    }
+
+    private Segment createSegment(int id) throws IOException {
+        Path path = packDirectory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+        Segment segment = new Segment(id, path);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    private boolean tryDelete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+            return true;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    private static String putRecord(String key, BlobLocation location) {
+        return "P\t" + key + "\t" + location.segmentId() + "\t" + location.offset() + "\t" + location.length() + "\n";
+    }
+
+    private static String key(String directory, String filename) {
+        return directory == null || directory.isEmpty() ? filename : directory + "/" + filename;
+    }
+
+    // 인덱스 로그가 줄/탭 단위이므로 제어문자가 들어간 키는 fallback 으로 보냄
+    private static boolean isIndexable(String key) {
+        return key.indexOf('\t') < 0 && key.indexOf('\n') < 0 && key.indexOf('\r') < 0;
+    }
+
+    private record BlobLocation(int segmentId, long offset, int length) {
+    }
+
+    private static final class Segment {
+
+        private final int id;
+        private final Path path;
+        private final FileChannel channel;
+        private final AtomicLong size;
+        private final AtomicLong liveBytes = new AtomicLong();
+        private volatile MappedByteBuffer mapped;
+
+        Segment(int id, Path path) throws IOException {
+            this.id = id;
+            this.path = path;
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.size = new AtomicLong(channel.size());
+        }
+
+        /**
+         * 세그먼트의 [offset, offset + length) 영역을 매핑된 버퍼로 반환
+         * 매핑 범위를 벗어나면 현재 크기로 다시 매핑한다
+         */
+        ByteBuffer slice(long offset, int length) throws IOException {
+            MappedByteBuffer current = mapped;
+            if (current == null || current.capacity() < offset + length) {
+                synchronized (this) {
+                    current = mapped;
+                    if (current == null || current.capacity() < offset + length) {
+                        current = channel.map(FileChannel.MapMode.READ_ONLY, 0, size.get());
+                        mapped = current;
+                    }
+                }
+            }
+            return current.slice((int) offset, length);
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException ex) {
+                logger.warn("팩 세그먼트 닫기 실패: {}", path, ex);
+            }
+        }
+    }
+}
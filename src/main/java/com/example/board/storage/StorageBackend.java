@@ -0,0 +1,39 @@
+package com.example.board.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * 업로드 파일 저장소 추상화
+ * directory 는 "profiles", "posts", "temp" 와 같은 논리 디렉토리 이름이다 (빈 문자열이면 루트)
+ */
+public interface StorageBackend {
+
+    /**
+     * 파일 저장 (같은 이름이 있으면 덮어씀)
+     */
+    void store(String directory, String filename, InputStream inputStream, long size) throws IOException;
+
+    /**
+     * 이미 디스크에 있는 파일을 저장소로 이동 (가능하면 복사 없이 rename)
+     */
+    void storeFile(String directory, String filename, Path source) throws IOException;
+
+    /**
+     * 파일 조회 (없으면 RuntimeException)
+     */
+    Resource load(String directory, String filename);
+
+    /**
+     * 파일 존재 여부
+     */
+    boolean exists(String directory, String filename);
+
+    /**
+     * 파일 삭제 (삭제된 경우 true)
+     */
+    boolean delete(String directory, String filename) throws IOException;
+}
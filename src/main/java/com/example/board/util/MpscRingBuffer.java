@@ -0,0 +1,94 @@
+package com.example.board.util;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 크기가 고정된 다중 생산자 / 단일 소비자 링 버퍼 (잠금 없음)
+ * - 생산자는 tail 을 CAS 로 한 칸 확보한 뒤 슬롯에 값을 쓴다. 가득 차 있으면 바로 false 를 반환한다.
+ * - 소비자(한 스레드만)는 head 부터 값이 채워진 슬롯까지 꺼내고 슬롯을 비운 뒤 head 를 옮긴다.
+ * - 확보만 되고 아직 값이 쓰이지 않은 슬롯을 만나면 거기서 멈추고 다음 drain 때 이어서 읽는다.
+ */
+public final class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int capacity;
+    private final int mask;
+
+    // 다음에 생산자가 확보할 위치
+    private final AtomicLong tail = new AtomicLong();
+    // 다음에 소비자가 읽을 위치 (소비자만 씀)
+    private volatile long head;
+
+    public MpscRingBuffer(int requestedCapacity) {
+        if (requestedCapacity <= 0 || requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + requestedCapacity);
+        }
+        // 인덱스 계산을 비트 연산으로 하기 위해 2의 거듭제곱으로 올림
+        int size = 1;
+        while (size < requestedCapacity) {
+            size <<= 1;
+        }
+        this.capacity = size;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * 값 추가 (가득 차 있으면 false, 기다리지 않음)
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        long position;
+        do {
+            position = tail.get();
+            if (position - head >= capacity) {
+                return false;
+            }
+        } while (!tail.compareAndSet(position, position + 1));
+
+        slots.set(index(position), element);
+        return true;
+    }
+
+    /**
+     * 최대 maxElements 개를 꺼내 target 에 추가 (소비자 스레드에서만 호출)
+     *
+     * @return 꺼낸 개수
+     */
+    public int drainTo(List<? super E> target, int maxElements) {
+        long position = head;
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = index(position);
+            E element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            target.add(element);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    /**
+     * 대기 중인 값 개수 (확보만 되고 아직 쓰이지 않은 슬롯 포함, 근사값)
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private int index(long position) {
+        return (int) (position & mask);
+    }
+}
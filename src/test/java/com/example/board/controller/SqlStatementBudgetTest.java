@@ -0,0 +1,485 @@
+package com.example.board.controller;
+
+import com.example.board.dto.BoardCategoryDto;
+import com.example.board.entity.BoardCategory;
+import com.example.board.entity.Comment;
+import com.example.board.entity.Post;
+import com.example.board.entity.PostAttachment;
+import com.example.board.entity.User;
+import com.example.board.entity.UserRole;
+import com.example.board.repository.BoardCategoryRepository;
+import com.example.board.repository.CommentRepository;
+import com.example.board.repository.PostAttachmentRepository;
+import com.example.board.repository.PostRepository;
+import com.example.board.repository.UserRepository;
+import com.example.board.security.JwtTokenProvider;
+import com.example.board.service.CategoryCatalog;
+import com.example.board.service.FileStorageService;
+import com.example.board.service.RefreshTokenService;
+import com.example.board.support.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * 엔드포인트별 SQL 실행 횟수 예산 테스트
+ * 작은 데이터(3)와 큰 데이터(30)로 같은 요청을 보내서
+ * 1) 실행된 문장 수가 예산을 넘지 않는지, 2) 데이터가 늘어도 문장 수가 그대로인지(N+1 없음) 확인한다.
+ * 새 엔드포인트를 추가하면 endpoints() 에 예산과 함께 등록할 것.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.Config.class)
+class SqlStatementBudgetTest {
+
+    private static final String PASSWORD = "password1234";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardCategoryRepository boardCategoryRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostAttachmentRepository postAttachmentRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private CategoryCatalog categoryCatalog;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void endpointsStayWithinStatementBudget() throws Exception {
+        Map<String, List<String>> small = measure(seed("s", 3));
+        Map<String, List<String>> large = measure(seed("l", 30));
+
+        List<String> failures = new ArrayList<>();
+        for (Endpoint endpoint : endpoints(null)) {
+            List<String> smallStatements = small.get(endpoint.name());
+            List<String> largeStatements = large.get(endpoint.name());
+            if (largeStatements.size() > endpoint.budget()) {
+                failures.add(String.format("%s: %d회 실행 (예산 %d)%n%s",
+                        endpoint.name(), largeStatements.size(), endpoint.budget(), format(largeStatements)));
+            } else if (largeStatements.size() != smallStatements.size()) {
+                failures.add(String.format("%s: 데이터 3 -> 30 에서 %d회 -> %d회로 증가%n%s",
+                        endpoint.name(), smallStatements.size(), largeStatements.size(), format(largeStatements)));
+            }
+        }
+        if (!failures.isEmpty()) {
+            fail("SQL 실행 횟수 예산 초과\n\n" + String.join("\n\n", failures));
+        }
+    }
+
+    // 모든 엔드포인트를 거친 뒤 메모리에서 증감한 게시판 통계가 DB 집계와 같은지 확인
+    @Test
+    void categoryStatisticsMatchDatabaseAfterWrites() throws Exception {
+        measure(seed("c", 3));
+
+        List<BoardCategoryDto> incremental = categoryCatalog.getCategories();
+        categoryCatalog.reload();
+        assertEquals(categoryCatalog.getCategories(), incremental);
+    }
+
+    /**
+     * 엔드포인트 목록 (이름, 예산, 요청) - 조회 후 수정, 삭제는 마지막 순서
+     * 예산 0 은 DB 를 쓰지 않아야 하는 요청
+     */
+    private List<Endpoint> endpoints(Fixture f) {
+        List<Endpoint> endpoints = new ArrayList<>();
+
+        // 인증
+        endpoints.add(new Endpoint("POST /api/auth/register", 4, () -> post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json("username", f.prefix() + "new", "password", PASSWORD, "email", f.prefix() + "new@test.com",
+                        "name", "신규", "nickname", f.prefix() + "신규"))));
+        endpoints.add(new Endpoint("POST /api/auth/login", 3, () -> post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json("username", f.author().getUsername(), "password", PASSWORD))));
+        endpoints.add(new Endpoint("POST /api/auth/refresh", 5, () -> post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json("refreshToken", f.refreshToken()))));
+        endpoints.add(new Endpoint("POST /api/auth/logout", 4, () -> auth(post("/api/auth/logout"), f.logoutAccessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json("refreshToken", f.logoutRefreshToken()))));
+        endpoints.add(new Endpoint("GET /api/auth/nickname-available", 0, () -> get("/api/auth/nickname-available")
+                .param("nickname", f.prefix() + "빈닉네임")));
+        endpoints.add(new Endpoint("GET /api/auth/test", 0, () -> get("/api/auth/test")));
+
+        // 게시판
+        endpoints.add(new Endpoint("GET /api/categories", 0, () -> get("/api/categories")));
+        endpoints.add(new Endpoint("GET /api/categories/{id}", 0, () -> get("/api/categories/" + f.category().getId())));
+
+        // 게시글
+        endpoints.add(new Endpoint("GET /api/posts", 2, () -> get("/api/posts")));
+        endpoints.add(new Endpoint("GET /api/categories/{id}/posts", 2,
+                () -> get("/api/categories/" + f.category().getId() + "/posts")));
+        endpoints.add(new Endpoint("GET /api/posts/{id}", 2, () -> get("/api/posts/" + f.focusPost().getId())));
+        endpoints.add(new Endpoint("GET /api/posts/{id}/attachments.zip", 2,
+                () -> auth(get("/api/posts/" + f.focusPost().getId() + "/attachments.zip"), f.authorToken())));
+        // 작성 시 작성자 닉네임을 User 에서 읽음 (2차 캐시에 없으면 조회 1회)
+        endpoints.add(new Endpoint("POST /api/posts", 2, () -> auth(post("/api/posts"), f.authorToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json("title", "새 글", "content", "본문", "categoryId", f.category().getId()))));
+        endpoints.add(new Endpoint("POST /api/posts/with-files", 5, () -> auth(multipart("/api/posts/with-files")
+                .file(new MockMultipartFile("post", "", MediaType.APPLICATION_JSON_VALUE,
+                        json("title", "첨부 글", "content", "본문", "categoryId", f.category().getId())
+                                .getBytes(StandardCharsets.UTF_8)))
+                .file(new MockMultipartFile("files", "a.txt", "text/plain", "a".getBytes()))
+                .file(new MockMultipartFile("files", "b.txt", "text/plain", "b".getBytes())), f.authorToken())));
+        endpoints.add(new Endpoint("PUT /api/posts/{id}", 2, () -> auth(put("/api/posts/" + f.editablePost().getId()), f.authorToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json("title", "수정", "content", "수정 본문", "categoryId", f.category().getId()))));
+        endpoints.add(new Endpoint("PUT /api/posts/{id}/with-files", 3,
+                () -> auth(multipart(HttpMethod.PUT, "/api/posts/" + f.editablePost().getId() + "/with-files")
+                        .file(new MockMultipartFile("post", "", MediaType.APPLICATION_JSON_VALUE,
+                                json("title", "다시 수정", "content", "본문").getBytes(StandardCharsets.UTF_8)))
+                        .file(new MockMultipartFile("files", "c.txt", "text/plain", "c".getBytes())), f.authorToken())));
+
+        // 댓글
+        endpoints.add(new Endpoint("GET /api/posts/{id}/comments", 2,
+                () -> get("/api/posts/" + f.focusPost().getId() + "/comments")));
+        endpoints.add(new Endpoint("GET /api/posts/{id}/comments/count", 2,
+                () -> get("/api/posts/" + f.focusPost().getId() + "/comments/count")));
+        endpoints.add(new Endpoint("POST /api/posts/{id}/comments", 4,
+                () -> auth(post("/api/posts/" + f.focusPost().getId() + "/comments"), f.authorToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json("content", "새 댓글", "parentId", f.comment().getId()))));
+        endpoints.add(new Endpoint("PUT /api/comments/{id}", 3, () -> auth(put("/api/comments/" + f.comment().getId()), f.authorToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json("content", "수정한 댓글"))));
+        endpoints.add(new Endpoint("DELETE /api/comments/{id}", 2,
+                () -> auth(delete("/api/comments/" + f.disposableComment().getId()), f.authorToken())));
+
+        // 프로필
+        endpoints.add(new Endpoint("GET /api/profile/me", 2, () -> auth(get("/api/profile/me"), f.authorToken())));
+        endpoints.add(new Endpoint("GET /api/profile/{username}", 2, () -> auth(get("/api/profile/" + f.moderator().getUsername()), f.authorToken())));
+        endpoints.add(new Endpoint("PUT /api/profile/update", 4, () -> auth(put("/api/profile/update"), f.authorToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json("nickname", f.prefix() + "바뀐닉", "bio", "소개"))));
+        endpoints.add(new Endpoint("POST /api/profile/image", 3, () -> auth(multipart("/api/profile/image")
+                .file(new MockMultipartFile("image", "me.png", "image/png", new byte[]{1, 2, 3})), f.authorToken())));
+
+        // 매니저
+        endpoints.add(new Endpoint("GET /api/manager/users", 1, () -> auth(get("/api/manager/users"), f.managerToken())));
+        endpoints.add(new Endpoint("GET /api/manager/users/page", 2, () -> auth(get("/api/manager/users/page"), f.managerToken())
+                .param("size", "5").param("sort", "createdDate,desc")));
+        endpoints.add(new Endpoint("GET /api/manager/users/{id}", 2,
+                () -> auth(get("/api/manager/users/" + f.moderator().getId()), f.managerToken())));
+        endpoints.add(new Endpoint("GET /api/manager/dashboard", 0, () -> auth(get("/api/manager/dashboard"), f.managerToken())));
+        endpoints.add(new Endpoint("GET /api/manager/audit", 0, () -> auth(get("/api/manager/audit"), f.managerToken())));
+        endpoints.add(new Endpoint("GET /api/manager/diagnostics/requests", 0,
+                () -> auth(get("/api/manager/diagnostics/requests"), f.managerToken())));
+        endpoints.add(new Endpoint("GET /api/manager/diagnostics/jfr", 0,
+                () -> auth(get("/api/manager/diagnostics/jfr"), f.managerToken())));
+        endpoints.add(new Endpoint("GET /api/manager/categories", 0, () -> auth(get("/api/manager/categories"), f.managerToken())));
+        endpoints.add(new Endpoint("POST /api/manager/categories", 1, () -> auth(post("/api/manager/categories"), f.managerToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json("name", f.prefix() + "새 게시판", "description", "설명"))));
+        endpoints.add(new Endpoint("PUT /api/manager/categories/{id}", 2,
+                () -> auth(put("/api/manager/categories/" + f.editableCategory().getId()), f.managerToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json("name", f.prefix() + "바뀐 게시판", "description", "설명"))));
+        endpoints.add(new Endpoint("PUT /api/manager/users/{id}/role", 3,
+                () -> auth(put("/api/manager/users/" + f.target().getId() + "/role"), f.managerToken())
+                        .param("role", "ROLE_ADMIN")));
+        endpoints.add(new Endpoint("POST /api/manager/users/{id}/suspend", 4,
+                () -> auth(post("/api/manager/users/" + f.target().getId() + "/suspend"), f.managerToken())
+                        .param("suspend", "true")));
+        endpoints.add(new Endpoint("POST /api/manager/users/{id}/warn", 3,
+                () -> auth(post("/api/manager/users/" + f.target().getId() + "/warn"), f.managerToken())));
+        endpoints.add(new Endpoint("POST /api/manager/users/{id}/categories/{categoryId}", 5,
+                () -> auth(post("/api/manager/users/" + f.moderator().getId() + "/categories/" + f.category().getId()),
+                        f.managerToken())));
+        endpoints.add(new Endpoint("DELETE /api/manager/users/{id}/categories/{categoryId}", 5,
+                () -> auth(delete("/api/manager/users/" + f.moderator().getId() + "/categories/" + f.category().getId()),
+                        f.managerToken())));
+
+        // 관리자 (사용자 관리)
+        endpoints.add(new Endpoint("GET /api/admin/test", 0, () -> auth(get("/api/admin/test"), f.managerToken())));
+        endpoints.add(new Endpoint("GET /api/admin/users", 1, () -> auth(get("/api/admin/users"), f.managerToken())));
+        endpoints.add(new Endpoint("GET /api/admin/users/page", 2, () -> auth(get("/api/admin/users/page"), f.managerToken())
+                .param("size", "5").param("role", "ROLE_USER")));
+        endpoints.add(new Endpoint("GET /api/admin/users/search", 0, () -> auth(get("/api/admin/users/search"), f.managerToken())
+                .param("keyword", f.prefix() + "user").param("size", "2")));
+        endpoints.add(new Endpoint("GET /api/admin/users/{id}", 2,
+                () -> auth(get("/api/admin/users/" + f.moderator().getId()), f.managerToken())));
+        endpoints.add(new Endpoint("PUT /api/admin/users/{id}/role", 3,
+                () -> auth(put("/api/admin/users/" + f.target().getId() + "/role"), f.managerToken())
+                        .param("role", "ROLE_USER")));
+        endpoints.add(new Endpoint("PUT /api/admin/users/{id}/lock", 3,
+                () -> auth(put("/api/admin/users/" + f.target().getId() + "/lock"), f.managerToken())
+                        .param("lock", "false")));
+        endpoints.add(new Endpoint("POST /api/admin/users/{id}/warn", 3,
+                () -> auth(post("/api/admin/users/" + f.target().getId() + "/warn"), f.managerToken())));
+        endpoints.add(new Endpoint("POST /api/admin/users/{id}/categories/{categoryId}", 5,
+                () -> auth(post("/api/admin/users/" + f.moderator().getId() + "/categories/" + f.category().getId()),
+                        f.managerToken())));
+        endpoints.add(new Endpoint("DELETE /api/admin/users/{id}/categories/{categoryId}", 5,
+                () -> auth(delete("/api/admin/users/" + f.moderator().getId() + "/categories/" + f.category().getId()),
+                        f.managerToken())));
+
+        // 파일 (DB 사용 안 함)
+        endpoints.add(new Endpoint("POST /api/files/upload", 0, () -> auth(multipart("/api/files/upload")
+                .file(new MockMultipartFile("file", "t.txt", "text/plain", "temp".getBytes())), f.authorToken())));
+        endpoints.add(new Endpoint("POST /api/files/uploads", 0, () -> auth(multipart("/api/files/uploads")
+                .file(new MockMultipartFile("files", "t1.txt", "text/plain", "1".getBytes()))
+                .file(new MockMultipartFile("files", "t2.txt", "text/plain", "2".getBytes())), f.authorToken())));
+        endpoints.add(new Endpoint("GET /api/files/posts/{fileName}", 0,
+                () -> auth(get("/api/files/posts/" + f.attachmentFileName()), f.authorToken())));
+        endpoints.add(new Endpoint("DELETE /api/files/{fileType}/{fileName}", 0,
+                () -> auth(delete("/api/files/post/" + f.attachmentFileName()), f.authorToken())));
+
+        // 상태 확인
+        endpoints.add(new Endpoint("GET /api/health", 0, () -> auth(get("/api/health"), f.authorToken())));
+        endpoints.add(new Endpoint("GET /api/health/detailed", 0, () -> auth(get("/api/health/detailed"), f.managerToken())));
+        endpoints.add(new Endpoint("GET /api/health/live", 0, () -> get("/api/health/live")));
+        endpoints.add(new Endpoint("GET /api/health/ready", 0, () -> get("/api/health/ready")));
+        endpoints.add(new Endpoint("GET /api/health/maintenance", 0, () -> auth(get("/api/health/maintenance"), f.authorToken())));
+        endpoints.add(new Endpoint("GET /api/ping", 0, () -> auth(get("/api/ping"), f.authorToken())));
+
+        // 삭제 (마지막)
+        endpoints.add(new Endpoint("DELETE /api/posts/{id}", 7,
+                () -> auth(delete("/api/posts/" + f.disposablePost().getId()), f.authorToken())));
+        endpoints.add(new Endpoint("DELETE /api/manager/categories/{id}", 2,
+                () -> auth(delete("/api/manager/categories/" + f.disposableCategory().getId()), f.managerToken())));
+        endpoints.add(new Endpoint("DELETE /api/manager/users/{id}", 3,
+                () -> auth(delete("/api/manager/users/" + f.disposableUser().getId()), f.managerToken())));
+        endpoints.add(new Endpoint("DELETE /api/admin/users/{id}", 3,
+                () -> auth(delete("/api/admin/users/" + f.target().getId()), f.managerToken())));
+        return endpoints;
+    }
+
+    private Map<String, List<String>> measure(Fixture fixture) throws Exception {
+        Map<String, List<String>> statements = new LinkedHashMap<>();
+        for (Endpoint endpoint : endpoints(fixture)) {
+            SqlStatementCounter.start();
+            MvcResult result;
+            try {
+                result = mockMvc.perform(endpoint.request().build()).andReturn();
+                if (result.getRequest().isAsyncStarted()) {
+                    result = mockMvc.perform(asyncDispatch(result)).andReturn();
+                }
+            } finally {
+                statements.put(endpoint.name(), SqlStatementCounter.stop());
+            }
+            int status = result.getResponse().getStatus();
+            if (status >= 400) {
+                fail(endpoint.name() + " 응답 " + status + ": " + result.getResponse().getContentAsString());
+            }
+        }
+        return statements;
+    }
+
+    /**
+     * 데이터 준비 (측정 밖에서 실행)
+     * scale 만큼 사용자, 게시글(각각 첨부 scale 개), 대표 게시글 댓글(각각 답글 1개), 실제 첨부 파일을 만든다.
+     */
+    private Fixture seed(String prefix, int scale) {
+        Fixture fixture = new TransactionTemplate(transactionManager).execute(status -> {
+            String encodedPassword = passwordEncoder.encode(PASSWORD);
+            Function<String, User> newUser = name -> userRepository.save(User.builder()
+                    .username(prefix + name)
+                    .password(encodedPassword)
+                    .email(prefix + name + "@test.com")
+                    .name(name)
+                    .nickname(prefix + name)
+                    .role(UserRole.ROLE_USER)
+                    .enabled(true)
+                    .managedCategories(new HashSet<>())
+                    .build());
+
+            BoardCategory category = boardCategoryRepository.save(
+                    BoardCategory.builder().name(prefix + "게시판").description("테스트").build());
+            BoardCategory editableCategory = boardCategoryRepository.save(
+                    BoardCategory.builder().name(prefix + "수정할 게시판").description("테스트").build());
+            BoardCategory disposableCategory = boardCategoryRepository.save(
+                    BoardCategory.builder().name(prefix + "삭제할 게시판").description("테스트").build());
+
+            User manager = newUser.apply("manager");
+            manager.setRole(UserRole.ROLE_MANAGER);
+            User author = newUser.apply("author");
+            User moderator = newUser.apply("moderator");
+            moderator.setRole(UserRole.ROLE_MODERATOR);
+            User target = newUser.apply("target");
+            User disposableUser = newUser.apply("disposable");
+            List<User> users = new ArrayList<>();
+            for (int i = 0; i < scale; i++) {
+                users.add(newUser.apply("user" + i));
+            }
+
+            for (int i = 0; i < scale; i++) {
+                Post post = newPost(users.get(i), category, "글 " + i);
+                for (int j = 0; j < scale; j++) {
+                    postAttachmentRepository.save(PostAttachment.builder()
+                            .fileName(prefix + "missing_" + i + "_" + j + ".txt")
+                            .originalFileName("file" + j + ".txt")
+                            .fileSize(1L)
+                            .fileType("text/plain")
+                            .fileCategory("document")
+                            .post(post)
+                            .build());
+                }
+            }
+
+            // 대표 게시글: 실제 첨부 파일 scale 개, 댓글 scale 개 (각각 다른 사용자의 답글 1개)
+            Post focusPost = newPost(author, category, "대표 글");
+            String attachmentFileName = null;
+            for (int i = 0; i < scale; i++) {
+                String fileName = fileStorageService.storePostAttachment(
+                        new MockMultipartFile("file", "real" + i + ".txt", "text/plain", ("내용 " + i).getBytes()),
+                        focusPost.getId());
+                postAttachmentRepository.save(PostAttachment.builder()
+                        .fileName(fileName)
+                        .originalFileName("real" + i + ".txt")
+                        .fileSize(8L)
+                        .fileType("text/plain")
+                        .fileCategory("document")
+                        .post(focusPost)
+                        .build());
+                attachmentFileName = fileName;
+            }
+            for (int i = 0; i < scale; i++) {
+                Comment parent = commentRepository.save(Comment.builder().content("댓글 " + i).user(users.get(i)).post(focusPost).build());
+                commentRepository.save(Comment.builder().content("답글 " + i)
+                        .user(users.get((i + 1) % scale)).post(focusPost).parent(parent).build());
+            }
+            Comment comment = commentRepository.save(
+                    Comment.builder().content("수정할 댓글").user(author).post(focusPost).build());
+            Comment disposableComment = commentRepository.save(
+                    Comment.builder().content("삭제할 댓글").user(author).post(focusPost).build());
+
+            Post editablePost = newPost(author, category, "수정할 글");
+            Post disposablePost = newPost(author, category, "삭제할 글");
+            for (int i = 0; i < scale; i++) {
+                Comment parent = commentRepository.save(
+                        Comment.builder().content("댓글 " + i).user(users.get(i)).post(disposablePost).build());
+                commentRepository.save(Comment.builder().content("답글 " + i)
+                        .user(author).post(disposablePost).parent(parent).build());
+                postAttachmentRepository.save(PostAttachment.builder()
+                        .fileName(prefix + "missing_d" + i + ".txt")
+                        .originalFileName("file" + i + ".txt")
+                        .fileSize(1L)
+                        .fileType("text/plain")
+                        .fileCategory("document")
+                        .post(disposablePost)
+                        .build());
+            }
+
+            return new Fixture(prefix, category, editableCategory, disposableCategory,
+                    author, moderator, target, disposableUser, focusPost, editablePost, disposablePost,
+                    comment, disposableComment, attachmentFileName,
+                    jwtTokenProvider.createToken(manager), jwtTokenProvider.createToken(author),
+                    jwtTokenProvider.createToken(author),
+                    refreshTokenService.createRefreshToken(author).getToken(),
+                    refreshTokenService.createRefreshToken(author).getToken());
+        });
+        // 저장소로 직접 넣은 게시판/게시글은 메모리 게시판 목록에 없으므로 다시 읽음
+        categoryCatalog.reload();
+        return fixture;
+    }
+
+    private Post newPost(User user, BoardCategory category, String title) {
+        return postRepository.save(Post.builder()
+                .title(title)
+                .content("본문")
+                .author(user.getNickname())
+                .user(user)
+                .category(category)
+                .attachments(new ArrayList<>())
+                .viewCount(0L)
+                .build());
+    }
+
+    private static MockHttpServletRequestBuilder auth(MockHttpServletRequestBuilder request, String token) {
+        return request.header("Authorization", "Bearer " + token);
+    }
+
+    // 키, 값 순서의 간단한 JSON 객체 (문자열/숫자만)
+    private static String json(Object... keyValues) {
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < keyValues.length; i += 2) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('"').append(keyValues[i]).append("\":");
+            Object value = keyValues[i + 1];
+            json.append(value instanceof Number ? value.toString() : "\"" + value + "\"");
+        }
+        return json.append('}').toString();
+    }
+
+    private static String format(List<String> statements) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < statements.size(); i++) {
+            text.append("  ").append(i + 1).append(". ").append(statements.get(i)).append('\n');
+        }
+        return text.toString();
+    }
+
+    private interface RequestFactory {
+        RequestBuilder build();
+    }
+
+    private record Endpoint(String name, int budget, RequestFactory request) {
+    }
+
+    private record Fixture(String prefix, BoardCategory category, BoardCategory editableCategory,
+                           BoardCategory disposableCategory, User author, User moderator, User target,
+                           User disposableUser, Post focusPost, Post editablePost, Post disposablePost,
+                           Comment comment, Comment disposableComment, String attachmentFileName,
+                           String managerToken, String authorToken, String logoutAccessToken, String refreshToken, String logoutRefreshToken) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.board.security;
+
+import com.example.board.entity.User;
+import com.example.board.entity.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 인증 경로 벤치마크
+ * - legacyDoubleParse: 변경 전 방식 (요청마다 파서를 두 번 만들고 서명을 두 번 검증)
+ * - filter: 현재 JwtFilter (cacheSize=0 이면 캐시 없이 한 번 파싱, 10000 이면 검증 캐시 사용)
+ *
+ * 실행: mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *       java -cp target/test-classes:target/classes:$(cat target/cp.txt) com.example.board.security.JwtFilterBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "mySecretKeyForJWTTokenGenerationThatNeedsToBeAtLeast256BitsLongForHS256Algorithm";
+
+    @Param({"0", "10000"})
+    public int cacheSize;
+
+    private JwtFilter filter;
+    private SecretKey key;
+    private String token;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, 900, cacheSize,
+                new TokenRevocationRegistry(900, 100000, 0.01));
+        filter = new JwtFilter(tokenProvider, new SimpleMeterRegistry());
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+
+        token = tokenProvider.createToken(User.builder()
+                .id(1L)
+                .username("benchmark-user")
+                .nickname("benchmark")
+                .role(UserRole.ROLE_USER)
+                .managedCategories(new HashSet<>())
+                .build());
+
+        request = new MockHttpServletRequest("GET", "/api/posts");
+        request.addHeader("Authorization", "Bearer " + token);
+    }
+
+    @Benchmark
+    public Object filter() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    @Benchmark
+    public Object legacyDoubleParse() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return claims.get("auth").toString().split(",");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.board.service;
+
+import com.example.board.dto.AuditEventDto;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AuditJournal 조회 테스트
+ * 순번(seq) 커서로 이어 받을 때 같은 시각의 이벤트가 빠지지 않는지, 세그먼트가 바뀌거나 재시작해도 순번이 이어지는지 확인한다.
+ */
+class AuditJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private AuditJournal journal;
+
+    @AfterEach
+    void tearDown() {
+        journal.shutdown();
+    }
+
+    @Test
+    void pagesByCursorWithoutSkippingEvents() throws InterruptedException {
+        journal = open(16 * 1024 * 1024);
+        for (int i = 0; i < 10; i++) {
+            journal.record("ACTION_" + i, "POST", i, AuditJournal.detail());
+        }
+        awaitWritten(10);
+
+        List<AuditEventDto> first = journal.find(LocalDateTime.now().minusMinutes(1), 4);
+        List<AuditEventDto> second = journal.findAfter(first.get(3).getSeq(), 4);
+        List<AuditEventDto> third = journal.findAfter(second.get(3).getSeq(), 4);
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), seqs(first));
+        assertEquals(List.of(5L, 6L, 7L, 8L), seqs(second));
+        assertEquals(List.of(9L, 10L), seqs(third));
+        assertEquals(List.of(), journal.findAfter(10, 4));
+    }
+
+    @Test
+    void cursorWorksAcrossSegmentsAndRestarts() throws InterruptedException {
+        // 세그먼트를 작게 잡아 배치마다 새 세그먼트가 생기게 함
+        journal = open(256);
+        for (int i = 0; i < 6; i++) {
+            journal.record("ACTION_" + i, "POST", i, AuditJournal.detail("index", i));
+            awaitWritten(i + 1);
+        }
+        journal.shutdown();
+
+        journal = open(256);
+        journal.record("AFTER_RESTART", "POST", 6, AuditJournal.detail());
+        awaitWritten(7);
+
+        assertEquals(List.of(4L, 5L, 6L, 7L), seqs(journal.findAfter(3, 10)));
+        assertEquals("AFTER_RESTART", journal.findAfter(6, 10).get(0).getAction());
+    }
+
+    private AuditJournal open(long segmentSize) {
+        return new AuditJournal(JsonMapper.builder().findAndAddModules().build(), new SimpleMeterRegistry(),
+                directory.toString(), 1024, 512, 10, segmentSize, 100);
+    }
+
+    private void awaitWritten(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (journal.findAfter(0, count + 1).size() < count) {
+            assertTrue(System.currentTimeMillis() < deadline, "감사 이벤트가 기록되지 않음");
+            Thread.sleep(10);
+        }
+    }
+
+    private static List<Long> seqs(List<AuditEventDto> events) {
+        return events.stream().map(AuditEventDto::getSeq).toList();
+    }
+}
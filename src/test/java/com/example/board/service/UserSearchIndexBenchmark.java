@@ -0,0 +1,110 @@
+package com.example.board.service;
+
+import com.example.board.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserSearchIndex 검색 벤치마크 (사용자 100만 명)
+ * - linearScan: 변경 전 방식 (모든 사용자의 네 필드를 매번 소문자로 바꿔 contains, DB 로딩 시간 제외)
+ * - substring / prefix / commonSubstring: 인덱스 검색 (첫 페이지 20건)
+ *
+ * 실행: mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *       java -cp target/test-classes:target/classes:$(cat target/cp.txt) com.example.board.service.UserSearchIndexBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class UserSearchIndexBenchmark {
+
+    private static final String[] NAMES = {"김민준", "이서연", "박지호", "최하은", "정도윤", "강서윤", "조예준", "윤지우", "장시우", "임하린"};
+    private static final String[] DOMAINS = {"gmail.com", "naver.com", "daum.net", "kakao.com", "example.org"};
+
+    @Param({"1000000"})
+    public int userCount;
+
+    private UserSearchIndex index;
+    private List<String[]> users;
+
+    @Setup
+    public void setUp() {
+        users = new ArrayList<>(userCount);
+        Random random = new Random(42);
+        for (int i = 1; i <= userCount; i++) {
+            String username = "user" + i;
+            String nickname = NAMES[random.nextInt(NAMES.length)].charAt(0) + Integer.toString(random.nextInt(1 << 30), 36);
+            String name = NAMES[random.nextInt(NAMES.length)];
+            String email = username + "@" + DOMAINS[random.nextInt(DOMAINS.length)];
+            users.add(new String[]{String.valueOf(i), username, nickname, name, email});
+        }
+
+        index = new UserSearchIndex(fakeRepository(users), new SimpleMeterRegistry());
+        index.build();
+    }
+
+    @Benchmark
+    public Object substring() {
+        return index.search("er12345", 0, 20);
+    }
+
+    @Benchmark
+    public Object prefix() {
+        return index.search("user9999", 0, 20);
+    }
+
+    @Benchmark
+    public Object commonSubstring() {
+        return index.search("kakao", 0, 20);
+    }
+
+    @Benchmark
+    public Object linearScan() {
+        String keyword = "er12345";
+        List<String> matches = new ArrayList<>();
+        for (String[] user : users) {
+            if (user[1].toLowerCase().contains(keyword) || user[2].toLowerCase().contains(keyword)
+                    || user[3].toLowerCase().contains(keyword) || user[4].toLowerCase().contains(keyword)) {
+                matches.add(user[0]);
+            }
+        }
+        return matches;
+    }
+
+    // findSearchFieldsAfter 만 구현한 가짜 저장소 (id 순 페이지 반환)
+    private static UserRepository fakeRepository(List<String[]> users) {
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("findSearchFieldsAfter")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    int from = (int) (long) (Long) args[0];
+                    int to = Math.min(users.size(), from + ((Pageable) args[1]).getPageSize());
+                    List<Object[]> rows = new ArrayList<>();
+                    for (int i = from; i < to; i++) {
+                        String[] user = users.get(i);
+                        rows.add(new Object[]{Long.parseLong(user[0]), user[1], user[2], user[3], user[4].toLowerCase(Locale.ROOT)});
+                    }
+                    return rows;
+                });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserSearchIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
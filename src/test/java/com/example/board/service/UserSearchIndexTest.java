@@ -0,0 +1,185 @@
+package com.example.board.service;
+
+import com.example.board.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * UserSearchIndex 테스트
+ * 앞부분/부분 일치 규칙, 생성 후 변경 반영, 생성 중에 들어온 변경의 병합, 생성 실패 후 재시도를 확인한다.
+ */
+class UserSearchIndexTest {
+
+    private final List<Object[]> users = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 생성 중 첫 페이지를 읽을 때 실행 (생성 도중 들어온 변경 흉내)
+    private Runnable duringBuild = () -> { };
+    private int failuresRemaining;
+
+    private final UserSearchIndex index = new UserSearchIndex(fakeRepository(), meterRegistry);
+
+    @Test
+    void prefixMatchesComeBeforeSubstringMatches() {
+        user(1, "xkimx", "n1", null, "a@test.com");
+        user(2, "kimchi", "n2", null, "b@test.com");
+        user(3, "bigkim", "n3", null, "c@test.com");
+        user(4, "kimbap", "n4", null, "d@test.com");
+        assertTrue(index.build());
+
+        // 앞부분 일치(정렬 순) → 부분 일치(가입 순)
+        assertEquals(List.of(4L, 2L, 1L, 3L), ids("kim"));
+    }
+
+    @Test
+    void shortQueriesUsePrefixOnly() {
+        user(1, "kimchi", "n1", null, null);
+        user(2, "akim", "n2", null, null);
+        assertTrue(index.build());
+
+        assertEquals(List.of(1L), ids("ki"));
+        assertEquals(List.of(1L, 2L), ids("kim"));
+    }
+
+    @Test
+    void substringMatchChecksActualContainment() {
+        // abc, bcd 조각은 모두 있지만 "abcd" 는 없음
+        user(1, "abcxbcd", "n1", null, null);
+        user(2, "zabcdz", "n2", null, null);
+        assertTrue(index.build());
+
+        assertEquals(List.of(2L), ids("abcd"));
+        assertEquals(List.of(), ids("nomatch"));
+    }
+
+    @Test
+    void searchesAllFieldsIgnoringCase() {
+        user(1, "alice", "Blue Moon", "Alice Kim", "Alice@Example.com");
+        assertTrue(index.build());
+
+        assertEquals(List.of(1L), ids("BLUE"));
+        assertEquals(List.of(1L), ids("moon"));
+        assertEquals(List.of(1L), ids("example.com"));
+        assertEquals(List.of(1L), ids("  alice kim "));
+    }
+
+    @Test
+    void pagesResultsAndReportsTotal() {
+        for (int i = 1; i <= 5; i++) {
+            user(i, "user" + i, "n" + i, null, null);
+        }
+        assertTrue(index.build());
+
+        UserSearchIndex.SearchResult result = index.search("user", 1, 2);
+        assertEquals(List.of(2L, 3L), result.ids());
+        assertEquals(5, result.total());
+        assertEquals(5, index.search("", 0, 10).total());
+    }
+
+    @Test
+    void appliesChangesAfterBuild() {
+        user(1, "alice", "sunny", null, null);
+        user(2, "bob", "rainy", null, null);
+        assertTrue(index.build());
+
+        index.put(3, "carol", "windy", null, null);
+        index.put(1, "alice", "cloudy", null, null);
+        index.remove(2);
+
+        assertEquals(List.of(3L), ids("win"));
+        assertEquals(List.of(3L), ids("wi"));
+        assertEquals(List.of(1L), ids("cloud"));
+        assertEquals(List.of(), ids("sunny"));
+        assertEquals(List.of(), ids("bob"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void mergesChangesMadeWhileBuilding() {
+        user(1, "alice", "sunny", null, null);
+        user(2, "bob", "rainy", null, null);
+        // DB 를 읽는 동안 추가/변경/삭제가 들어옴 (읽은 내용은 변경 전 상태)
+        duringBuild = () -> {
+            index.put(3, "carol", "windy", null, null);
+            index.put(1, "alice", "cloudy", null, null);
+            index.remove(2);
+        };
+
+        assertFalse(index.isReady());
+        assertTrue(index.build());
+        assertTrue(index.isReady());
+
+        assertEquals(List.of(3L), ids("windy"));
+        assertEquals(List.of(1L), ids("cloudy"));
+        assertEquals(List.of(), ids("sunny"));
+        assertEquals(List.of(), ids("bob"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void failedBuildKeepsPendingChangesForRetry() {
+        user(1, "alice", "sunny", null, null);
+        failuresRemaining = 1;
+
+        assertFalse(index.build());
+        assertFalse(index.isReady());
+        assertEquals(1, index.getFailedBuilds());
+        assertEquals(1.0, meterRegistry.get("user.search.index.build.failures").gauge().value());
+
+        index.put(2, "bob", "rainy", null, null);
+
+        assertTrue(index.build());
+        assertTrue(index.isReady());
+        assertEquals(0, index.getFailedBuilds());
+        assertNull(index.getLastBuildError());
+        assertEquals(1.0, meterRegistry.get("user.search.index.ready").gauge().value());
+        assertEquals(List.of(1L), ids("sunny"));
+        assertEquals(List.of(2L), ids("rainy"));
+    }
+
+    private List<Long> ids(String keyword) {
+        return index.search(keyword, 0, 100).ids();
+    }
+
+    private void user(long id, String username, String nickname, String name, String email) {
+        users.add(new Object[]{id, username, nickname, name, email});
+    }
+
+    // findSearchFieldsAfter 만 구현한 가짜 저장소 (id 순 페이지 반환)
+    private UserRepository fakeRepository() {
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("findSearchFieldsAfter")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    if (failuresRemaining > 0) {
+                        failuresRemaining--;
+                        throw new IllegalStateException("DB 연결 실패");
+                    }
+
+                    long afterId = (Long) args[0];
+                    int pageSize = ((Pageable) args[1]).getPageSize();
+                    List<Object[]> rows = new ArrayList<>();
+                    for (Object[] row : users) {
+                        if ((Long) row[0] > afterId && rows.size() < pageSize) {
+                            rows.add(row);
+                        }
+                    }
+
+                    Runnable action = duringBuild;
+                    duringBuild = () -> { };
+                    action.run();
+                    return rows;
+                });
+    }
+}
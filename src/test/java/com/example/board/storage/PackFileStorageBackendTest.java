@@ -0,0 +1,245 @@
+package com.example.board.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * PackFileStorageBackend 테스트
+ * 저장/조회, 덮어쓰기, 삭제, 재시작 시 인덱스 복원, 컴팩션(읽기와 동시 실행 포함), 큰 파일의 fallback 처리를 확인한다.
+ * 세그먼트를 작게(1KB) 잡아 몇 개의 파일로도 여러 세그먼트가 만들어지게 한다.
+ */
+class PackFileStorageBackendTest {
+
+    private static final long MAX_BLOB_SIZE = 256;
+    private static final long SEGMENT_SIZE = 1024;
+
+    @TempDir
+    Path root;
+
+    private Path packDirectory;
+    private LocalDirectoryStorageBackend fallback;
+    private PackFileStorageBackend backend;
+
+    @BeforeEach
+    void setUp() {
+        packDirectory = root.resolve(".pack");
+        fallback = new LocalDirectoryStorageBackend(root);
+        backend = open();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        backend.close();
+    }
+
+    @Test
+    void storesAndLoadsSmallFiles() throws IOException {
+        store("posts", "a.txt", "hello");
+        store("", "root.txt", "at root");
+
+        assertEquals("hello", read("posts", "a.txt"));
+        assertEquals("at root", read("", "root.txt"));
+        assertTrue(backend.exists("posts", "a.txt"));
+        assertFalse(backend.exists("posts", "missing.txt"));
+        // 작은 파일은 팩에만 저장됨
+        assertFalse(Files.exists(root.resolve("posts").resolve("a.txt")));
+    }
+
+    @Test
+    void overwriteReturnsLatestContent() throws IOException {
+        store("posts", "a.txt", "first");
+        store("posts", "a.txt", "second version");
+
+        assertEquals("second version", read("posts", "a.txt"));
+    }
+
+    @Test
+    void deleteRemovesFile() throws IOException {
+        store("posts", "a.txt", "hello");
+
+        assertTrue(backend.delete("posts", "a.txt"));
+        assertFalse(backend.exists("posts", "a.txt"));
+        assertFalse(backend.delete("posts", "a.txt"));
+        assertThrows(RuntimeException.class, () -> backend.load("posts", "a.txt"));
+    }
+
+    @Test
+    void largeFilesGoToFallback() throws IOException {
+        byte[] large = bytes('x', (int) MAX_BLOB_SIZE + 1);
+        backend.store("posts", "large.bin", new ByteArrayInputStream(large), large.length);
+
+        assertTrue(Files.exists(root.resolve("posts").resolve("large.bin")));
+        assertArrayEquals(large, readBytes("posts", "large.bin"));
+        assertTrue(backend.delete("posts", "large.bin"));
+        assertFalse(Files.exists(root.resolve("posts").resolve("large.bin")));
+    }
+
+    @Test
+    void replaysIndexOnRestart() throws IOException {
+        for (int i = 0; i < 20; i++) {
+            store("posts", "file-" + i + ".txt", "content " + i);
+        }
+        store("posts", "file-3.txt", "overwritten");
+        backend.delete("posts", "file-5.txt");
+
+        backend.close();
+        backend = open();
+
+        assertEquals("overwritten", read("posts", "file-3.txt"));
+        assertFalse(backend.exists("posts", "file-5.txt"));
+        for (int i = 0; i < 20; i++) {
+            if (i != 3 && i != 5) {
+                assertEquals("content " + i, read("posts", "file-" + i + ".txt"));
+            }
+        }
+    }
+
+    @Test
+    void compactionReclaimsDeadSegmentsAndKeepsLiveFiles() throws IOException {
+        // 200 바이트 파일 15개 → 세그먼트 여러 개
+        for (int i = 0; i < 15; i++) {
+            store("posts", "file-" + i, payload(i));
+        }
+        int segmentsBefore = segmentCount();
+        assertTrue(segmentsBefore >= 3);
+
+        // 앞쪽 세그먼트의 파일 대부분 삭제
+        for (int i = 0; i < 15; i++) {
+            if (i % 5 != 0) {
+                backend.delete("posts", "file-" + i);
+            }
+        }
+        backend.compact();
+
+        assertTrue(segmentCount() < segmentsBefore);
+        for (int i = 0; i < 15; i += 5) {
+            assertEquals(payload(i), read("posts", "file-" + i));
+        }
+
+        // 컴팩션 후 다시 열어도 같은 내용
+        backend.close();
+        backend = open();
+        for (int i = 0; i < 15; i++) {
+            assertEquals(i % 5 == 0, backend.exists("posts", "file-" + i));
+        }
+        for (int i = 0; i < 15; i += 5) {
+            assertEquals(payload(i), read("posts", "file-" + i));
+        }
+    }
+
+    @Test
+    void readsStayCorrectWhileCompactionMovesFiles() throws Exception {
+        int files = 40;
+        for (int i = 0; i < files; i++) {
+            store("posts", "file-" + i, payload(i));
+        }
+
+        ExecutorService readers = Executors.newFixedThreadPool(3);
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int r = 0; r < 3; r++) {
+            results.add(readers.submit(() -> {
+                int reads = 0;
+                while (running.get()) {
+                    // 짝수 파일은 삭제되지 않으므로 항상 같은 내용이어야 함
+                    for (int i = 0; i < files; i += 2) {
+                        assertEquals(payload(i), read("posts", "file-" + i));
+                        reads++;
+                    }
+                }
+                return reads;
+            }));
+        }
+
+        try {
+            // 삭제 → 컴팩션을 반복해 읽는 동안 세그먼트가 닫히고 파일이 옮겨지게 함
+            for (int round = 0; round < 10; round++) {
+                for (int i = 1; i < files; i += 2) {
+                    backend.delete("posts", "file-" + i);
+                }
+                backend.compact();
+                for (int i = 1; i < files; i += 2) {
+                    store("posts", "file-" + i, payload(i));
+                }
+            }
+        } finally {
+            running.set(false);
+            readers.shutdown();
+        }
+
+        for (Future<Integer> result : results) {
+            assertTrue(result.get(30, TimeUnit.SECONDS) > 0);
+        }
+        assertTrue(readers.awaitTermination(10, TimeUnit.SECONDS));
+        for (int i = 0; i < files; i++) {
+            assertEquals(payload(i), read("posts", "file-" + i));
+        }
+    }
+
+    @Test
+    void storeFileMovesSmallFileIntoPack() throws IOException {
+        Path source = Files.writeString(root.resolve("upload.tmp"), "moved");
+
+        backend.storeFile("posts", "moved.txt", source);
+
+        assertFalse(Files.exists(source));
+        assertEquals("moved", read("posts", "moved.txt"));
+    }
+
+    private PackFileStorageBackend open() {
+        return new PackFileStorageBackend(packDirectory, fallback, MAX_BLOB_SIZE, SEGMENT_SIZE, 0.5);
+    }
+
+    private void store(String directory, String filename, String content) throws IOException {
+        byte[] data = content.getBytes(StandardCharsets.UTF_8);
+        backend.store(directory, filename, new ByteArrayInputStream(data), data.length);
+    }
+
+    private String read(String directory, String filename) throws IOException {
+        return new String(readBytes(directory, filename), StandardCharsets.UTF_8);
+    }
+
+    private byte[] readBytes(String directory, String filename) throws IOException {
+        try (InputStream inputStream = backend.load(directory, filename).getInputStream()) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private int segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(packDirectory)) {
+            return (int) files.filter(path -> path.getFileName().toString().endsWith(".pack")).count();
+        }
+    }
+
+    // 파일마다 다른 200 바이트 내용
+    private static String payload(int i) {
+        return String.valueOf((char) ('a' + i % 26)).repeat(196) + String.format("%04d", i);
+    }
+
+    private static byte[] bytes(char c, int length) {
+        return String.valueOf(c).repeat(length).getBytes(StandardCharsets.US_ASCII);
+    }
+}
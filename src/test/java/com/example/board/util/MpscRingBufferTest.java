@@ -0,0 +1,127 @@
+package com.example.board.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MpscRingBuffer 테스트
+ * 가득 찬 버퍼, 인덱스가 여러 바퀴 도는 경우, 여러 생산자가 동시에 넣고 한 소비자가 꺼내는 경우를 확인한다.
+ */
+class MpscRingBufferTest {
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(8, new MpscRingBuffer<Integer>(5).capacity());
+        assertEquals(1, new MpscRingBuffer<Integer>(1).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<Integer>(0));
+        assertThrows(NullPointerException.class, () -> new MpscRingBuffer<Integer>(4).offer(null));
+    }
+
+    @Test
+    void rejectsOfferWhenFullAndAcceptsAgainAfterDrain() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(1, buffer.drainTo(drained, 1));
+        assertTrue(buffer.offer(4));
+        assertFalse(buffer.offer(5));
+
+        assertEquals(4, buffer.drainTo(drained, 10));
+        assertEquals(List.of(0, 1, 2, 3, 4), drained);
+        assertEquals(0, buffer.size());
+        assertEquals(0, buffer.drainTo(drained, 10));
+    }
+
+    @Test
+    void keepsOrderAcrossWrapAround() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+        int next = 0;
+        int expected = 0;
+        // 한 번에 넣고 꺼내는 개수를 바꿔 가며 슬롯 경계를 여러 바퀴 넘긴다
+        for (int round = 0; round < 1000; round++) {
+            int offers = round % 4 + 1;
+            for (int i = 0; i < offers; i++) {
+                assertTrue(buffer.offer(next++));
+            }
+            drained.clear();
+            buffer.drainTo(drained, round % 3 + 1);
+            buffer.drainTo(drained, 4);
+            for (int value : drained) {
+                assertEquals(expected++, value);
+            }
+        }
+        assertEquals(next, expected);
+    }
+
+    @Test
+    void concurrentProducersLoseNothingAndKeepPerProducerOrder() throws Exception {
+        int producers = 4;
+        int perProducer = 50_000;
+        MpscRingBuffer<Long> buffer = new MpscRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    // 생산자 번호는 상위 비트, 순번은 하위 비트
+                    long value = (producer << 32) | i;
+                    while (!buffer.offer(value)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        int[] nextSequence = new int[producers];
+        List<Long> batch = new ArrayList<>();
+        long received = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        start.countDown();
+        while (received < (long) producers * perProducer) {
+            batch.clear();
+            if (buffer.drainTo(batch, 256) == 0) {
+                assertTrue(System.nanoTime() < deadline, "consumer stalled at " + received);
+                Thread.onSpinWait();
+                continue;
+            }
+            for (long value : batch) {
+                int producer = (int) (value >>> 32);
+                int sequence = (int) value;
+                assertEquals(nextSequence[producer]++, sequence, "producer " + producer);
+            }
+            received += batch.size();
+        }
+
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        for (int p = 0; p < producers; p++) {
+            assertEquals(perProducer, nextSequence[p]);
+        }
+        assertEquals(0, buffer.size());
+    }
+}